@@ -0,0 +1,62 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.Account;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int accounts;
+
+    private Account[] ledger;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ledger = new Account[accounts];
+        for (int i = 0; i < accounts; i++) {
+            ledger[i] = new Account(String.valueOf(i), 1_000_000);
+        }
+    }
+
+    private Account randomAccount() {
+        return ledger[ThreadLocalRandom.current().nextInt(accounts)];
+    }
+
+    @Benchmark
+    public void deposit() {
+        randomAccount().deposit(10);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void withdraw() {
+        Account account = randomAccount();
+        account.deposit(10);
+        account.withdraw(10);
+    }
+
+    @Benchmark
+    public void transferFunds() {
+        Account source = randomAccount();
+        Account target = randomAccount();
+        if (source.getBalance() >= 10) {
+            source.transferFunds(target, 10);
+        } else {
+            target.transferFunds(source, 10);
+        }
+    }
+
+    @Benchmark
+    public void applyInterest() {
+        randomAccount().applyInterest(0.0001);
+    }
+}
@@ -0,0 +1,61 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.Account;
+import org.ahmet.AccountLedger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AccountLedgerBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int accounts;
+
+    private AccountLedger ledger;
+    private String[] accountNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ledger = new AccountLedger();
+        accountNumbers = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            accountNumbers[i] = "acc-" + i;
+            ledger.open(new Account(accountNumbers[i], 1_000_000));
+        }
+    }
+
+    private String randomAccount() {
+        return accountNumbers[ThreadLocalRandom.current().nextInt(accounts)];
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void deposit() {
+        ledger.deposit(randomAccount(), 1);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void transferFunds() {
+        try {
+            ledger.transferFunds(randomAccount(), randomAccount(), 1);
+        } catch (IllegalArgumentException e) {
+            // drained account, skip
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void applyInterest() {
+        ledger.applyInterest(0.0001);
+    }
+}
@@ -0,0 +1,57 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.Customer;
+import org.ahmet.CustomerAnalytics;
+import org.ahmet.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-customer totals computed one customer at a time through Customer.process versus the
+ * partitioned CustomerAnalytics report.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CustomerAnalyticsBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private List<Customer> customers;
+    private CustomerAnalytics analytics;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        customers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            List<Product> orders = new ArrayList<>();
+            for (int line = random.nextInt(6); line > 0; line--) {
+                orders.add(new Product("product" + random.nextInt(1000), 1 + random.nextInt(100), 1 + random.nextInt(5)));
+            }
+            customers.add(new Customer("customer" + i, orders));
+        }
+        analytics = new CustomerAnalytics();
+    }
+
+    @Benchmark
+    public double perCustomerProcess() {
+        double total = 0;
+        for (Customer customer : customers) {
+            total += customer.process(c -> c.getOrders().stream().mapToDouble(p -> p.getPrice() * p.getQuantity()).sum());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public CustomerAnalytics.Report analyze() {
+        return analytics.analyze(customers, 10);
+    }
+}
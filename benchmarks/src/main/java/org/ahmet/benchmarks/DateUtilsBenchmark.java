@@ -0,0 +1,83 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.DateUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private int[] months;
+    private int[] years;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        months = random.ints(size, 1, 13).toArray();
+        years = random.ints(size, 1900, 2100).toArray();
+    }
+
+    @Benchmark
+    public void getMonthName(Blackhole blackhole) {
+        for (int month : months) {
+            blackhole.consume(DateUtils.getMonthName(month));
+        }
+    }
+
+    @Benchmark
+    public void getMonthNameLocalDate(Blackhole blackhole) {
+        for (int month : months) {
+            blackhole.consume(LocalDate.of(2021, month, 1).getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH));
+        }
+    }
+
+    @Benchmark
+    public void getMonthNameFrench(Blackhole blackhole) {
+        for (int month : months) {
+            blackhole.consume(DateUtils.getMonthName(month, Locale.FRENCH));
+        }
+    }
+
+    @Benchmark
+    public int getDaysInMonthForYear() {
+        int total = 0;
+        for (int i = 0; i < months.length; i++) {
+            total += DateUtils.getDaysInMonth(months[i], years[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int getDaysInMonth() {
+        int total = 0;
+        for (int month : months) {
+            total += DateUtils.getDaysInMonth(month);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int isLeapYear() {
+        int count = 0;
+        for (int year : years) {
+            if (DateUtils.isLeapYear(year)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
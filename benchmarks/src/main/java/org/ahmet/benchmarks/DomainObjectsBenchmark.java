@@ -0,0 +1,119 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.Customer;
+import org.ahmet.Employee;
+import org.ahmet.Product;
+import org.ahmet.Transaction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DomainObjectsBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private Employee[] employees;
+    private Product[] products;
+    private Transaction[] transactions;
+    private Customer customer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(42);
+        employees = new Employee[size];
+        products = new Product[size];
+        transactions = new Transaction[size];
+        List<Product> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees[i] = new Employee("employee" + i, 20 + random.nextInt(45), 3000 + random.nextInt(7000));
+            products[i] = new Product("product" + i, random.nextDouble() * 100, 1 + random.nextInt(5));
+            transactions[i] = new Transaction(String.valueOf(i), random.nextDouble() * 1000 - 100, random.nextBoolean() ? "credit" : "debit");
+            orders.add(products[i]);
+        }
+        customer = new Customer("customer", orders);
+    }
+
+    @Benchmark
+    public double employeeGiveRaise() {
+        double total = 0;
+        for (Employee employee : employees) {
+            employee.giveRaise(0.001);
+            total += employee.getSalary();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double employeeCalculateAnnualSalary() {
+        double total = 0;
+        for (Employee employee : employees) {
+            total += employee.calculateAnnualSalary();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double employeePromote() {
+        double total = 0;
+        for (Employee employee : employees) {
+            employee.promote(1);
+            total += employee.getSalary();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int productValidate() {
+        int valid = 0;
+        for (Product product : products) {
+            if (product.validate(p -> p.getPrice() > 10 && p.getQuantity() > 0)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public double productProcess() {
+        double total = 0;
+        for (Product product : products) {
+            total += product.process(p -> p.getPrice() * p.getQuantity());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double customerProcess() {
+        return customer.process(c -> c.getOrders().stream().mapToDouble(p -> p.getPrice() * p.getQuantity()).sum());
+    }
+
+    @Benchmark
+    public int transactionValidate() {
+        int valid = 0;
+        for (Transaction transaction : transactions) {
+            if (transaction.validate(t -> t.getAmount() > 0)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public double transactionProcess() {
+        double total = 0;
+        for (Transaction transaction : transactions) {
+            total += transaction.process(t -> t.getAmount() * 1.1);
+        }
+        return total;
+    }
+}
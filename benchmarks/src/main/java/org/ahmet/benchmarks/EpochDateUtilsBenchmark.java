@@ -0,0 +1,66 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.EpochDateUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bucketing timestamps by month through LocalDate per record versus the integer-only
+ * EpochDateUtils.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EpochDateUtilsBenchmark {
+    @Param({"1000", "1000000", "10000000"})
+    public int size;
+
+    private long[] timestamps;
+    private int[] monthIndexes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long from = LocalDate.of(2000, 1, 1).toEpochDay() * EpochDateUtils.MILLIS_PER_DAY;
+        long to = LocalDate.of(2030, 1, 1).toEpochDay() * EpochDateUtils.MILLIS_PER_DAY;
+        timestamps = new long[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = from + (long) (random.nextDouble() * (to - from));
+        }
+        monthIndexes = new int[size];
+    }
+
+    @Benchmark
+    public long[] countByYearMonthLocalDate() {
+        long[] counts = new long[30 * 12];
+        for (long millis : timestamps) {
+            LocalDate date = Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC).toLocalDate();
+            counts[(date.getYear() - 2000) * 12 + date.getMonthValue() - 1]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public long[] countByYearMonth() {
+        return EpochDateUtils.countByYearMonth(timestamps, 2000, 2029);
+    }
+
+    @Benchmark
+    public long[] countByMonth() {
+        return EpochDateUtils.countByMonth(timestamps);
+    }
+
+    @Benchmark
+    public int[] monthIndexes() {
+        EpochDateUtils.monthIndexes(timestamps, monthIndexes);
+        return monthIndexes;
+    }
+}
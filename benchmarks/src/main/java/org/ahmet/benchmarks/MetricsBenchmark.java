@@ -0,0 +1,69 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.Account;
+import org.ahmet.MetricGroup;
+import org.ahmet.Metrics;
+import org.ahmet.ShoppingCartUtils;
+import org.ahmet.Transaction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the instrumented methods with their metric group disabled and enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    private List<Double> prices;
+    private Account source;
+    private Account target;
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        prices = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            prices.add(i * 1.5);
+        }
+        source = new Account("source", 1_000_000_000);
+        target = new Account("target", 1_000_000_000);
+        transaction = new Transaction("t1", 10, "credit");
+        if (enabled) {
+            Metrics.enable(MetricGroup.values());
+        } else {
+            Metrics.disable(MetricGroup.values());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Metrics.disable(MetricGroup.values());
+        Metrics.reset();
+    }
+
+    @Benchmark
+    public double cartTotalWithDiscountAndTax() {
+        return ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(prices, 0.1, 0.2);
+    }
+
+    @Benchmark
+    public void transferFunds() {
+        source.transferFunds(target, 1);
+        target.transferFunds(source, 1);
+    }
+
+    @Benchmark
+    public double transactionProcess() {
+        return transaction.process(Transaction::getAmount);
+    }
+}
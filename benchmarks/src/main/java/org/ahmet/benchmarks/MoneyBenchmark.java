@@ -0,0 +1,83 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.Money;
+import org.ahmet.ShoppingCartUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart total with discount and tax computed over double, Money, raw fixed-point longs and
+ * BigDecimal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MoneyBenchmark {
+    private static final double DISCOUNT = 0.1;
+    private static final double TAX = 0.2;
+
+    @Param({"100", "100000", "1000000"})
+    public int size;
+
+    private double[] doubles;
+    private Money[] money;
+    private long[] units;
+    private BigDecimal[] decimals;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        doubles = new double[size];
+        money = new Money[size];
+        units = new long[size];
+        decimals = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            long cents = random.nextInt(100_000);
+            units[i] = cents;
+            money[i] = Money.ofUnits(cents, 2);
+            doubles[i] = cents / 100.0;
+            decimals[i] = BigDecimal.valueOf(cents, 2);
+        }
+    }
+
+    @Benchmark
+    public double totalDouble() {
+        double total = 0;
+        for (double price : doubles) {
+            total += price;
+        }
+        return total * (1 - DISCOUNT) * (1 + TAX);
+    }
+
+    @Benchmark
+    public Money totalMoney() {
+        return ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(money, 2, DISCOUNT, TAX);
+    }
+
+    @Benchmark
+    public long totalUnits() {
+        long total = 0;
+        for (long price : units) {
+            total = Money.addUnits(total, price);
+        }
+        return Money.multiplyUnits(total, (1 - DISCOUNT) * (1 + TAX));
+    }
+
+    @Benchmark
+    public BigDecimal totalBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal price : decimals) {
+            total = total.add(price);
+        }
+        return total.multiply(BigDecimal.valueOf(1 - DISCOUNT))
+                .multiply(BigDecimal.valueOf(1 + TAX))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+}
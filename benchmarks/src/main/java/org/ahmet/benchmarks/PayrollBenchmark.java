@@ -0,0 +1,59 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.Employee;
+import org.ahmet.PayrollEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A raise followed by the annual payroll total, per Employee object versus the columnar
+ * PayrollEngine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PayrollBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private List<Employee> employees;
+    private PayrollEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(42);
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee("employee" + i, 20 + random.nextInt(45), 3000 + random.nextInt(7000)));
+        }
+        engine = PayrollEngine.from(employees);
+    }
+
+    @Benchmark
+    public double perObject() {
+        double total = 0;
+        for (Employee employee : employees) {
+            employee.giveRaise(0.01);
+            total += employee.calculateAnnualSalary();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double columnar() {
+        engine.giveRaise(0.01);
+        return engine.calculateTotalAnnualSalary();
+    }
+
+    @Benchmark
+    public double columnarSummaryByDecade() {
+        return engine.summarize(10).getTotalAnnualSalary();
+    }
+}
@@ -0,0 +1,84 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.DoubleColumn;
+import org.ahmet.PriceKernels;
+import org.ahmet.ShoppingCartUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class PriceKernelsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private List<Double> priceList;
+    private DoubleColumn prices;
+    private PriceKernels scalar;
+    private PriceKernels vectorized;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new DoubleColumn(size);
+        for (int i = 0; i < size; i++) {
+            prices.add(random.nextDouble() * 100);
+        }
+        priceList = prices.toList();
+        scalar = PriceKernels.scalar();
+        vectorized = PriceKernels.vectorized();
+    }
+
+    @Benchmark
+    public double sumStream() {
+        return ShoppingCartUtils.calculateTotalPrice(priceList);
+    }
+
+    @Benchmark
+    public double sumScalar() {
+        return scalar.sum(prices);
+    }
+
+    @Benchmark
+    public double sumVectorized() {
+        return vectorized.sum(prices);
+    }
+
+    @Benchmark
+    public double maxStream() {
+        return ShoppingCartUtils.findMostExpensiveItem(priceList);
+    }
+
+    @Benchmark
+    public double maxScalar() {
+        return scalar.max(prices);
+    }
+
+    @Benchmark
+    public double maxVectorized() {
+        return vectorized.max(prices);
+    }
+
+    @Benchmark
+    public List<Double> filterStream() {
+        return ShoppingCartUtils.filterItemsByPrice(priceList, 50.0);
+    }
+
+    @Benchmark
+    public DoubleColumn filterScalar() {
+        return scalar.filterAbove(prices, 50.0);
+    }
+
+    @Benchmark
+    public DoubleColumn filterVectorized() {
+        return vectorized.filterAbove(prices, 50.0);
+    }
+}
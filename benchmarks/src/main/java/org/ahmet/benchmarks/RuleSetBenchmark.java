@@ -0,0 +1,83 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.CompiledRules;
+import org.ahmet.RuleSet;
+import org.ahmet.Transaction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Transaction validation through chained Predicate.and lambdas versus compiled rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RuleSetBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private List<Transaction> transactions;
+    private Predicate<Transaction> chained;
+    private CompiledRules<Transaction> compiled;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String type = random.nextInt(10) == 0 ? "refund" : random.nextBoolean() ? "credit" : "debit";
+            transactions.add(new Transaction("t" + i, random.nextInt(12_000) - 1000, type));
+        }
+        chained = ((Predicate<Transaction>) t -> t.getId() != null)
+                .and(t -> t.getAmount() >= 0)
+                .and(t -> t.getAmount() > 0)
+                .and(t -> t.getAmount() <= 50_000)
+                .and(t -> t.getAmount() <= 10_000)
+                .and(t -> "credit".equals(t.getType()) || "debit".equals(t.getType()));
+        RuleSet.Field<Transaction> amount = RuleSet.field("amount", Transaction::getAmount);
+        compiled = new RuleSet<Transaction>()
+                .require("has id", t -> t.getId() != null)
+                .require(amount.atLeast(0))
+                .require(amount.greaterThan(0))
+                .require(amount.atMost(50_000))
+                .require(amount.atMost(10_000))
+                .require("known type", t -> "credit".equals(t.getType()) || "debit".equals(t.getType()))
+                .compile();
+    }
+
+    @Benchmark
+    public int chainedLambdas() {
+        int valid = 0;
+        for (Transaction transaction : transactions) {
+            if (transaction.validate(chained)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int compiledPerObject() {
+        int valid = 0;
+        for (Transaction transaction : transactions) {
+            if (transaction.validate(compiled)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public BitSet compiledValidateAll() {
+        return compiled.validateAll(transactions);
+    }
+}
@@ -0,0 +1,145 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.CartSummary;
+import org.ahmet.DiscountType;
+import org.ahmet.DoubleColumn;
+import org.ahmet.QuantileSketch;
+import org.ahmet.ShoppingCartUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ShoppingCartUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private List<Double> priceList;
+    private DoubleColumn prices;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new DoubleColumn(size);
+        for (int i = 0; i < size; i++) {
+            prices.add(random.nextDouble() * 100);
+        }
+        priceList = prices.toList();
+    }
+
+    @Benchmark
+    public double calculateAveragePrice() {
+        return ShoppingCartUtils.calculateAveragePrice(priceList);
+    }
+
+    @Benchmark
+    public List<Double> filterItemsByPrice() {
+        return ShoppingCartUtils.filterItemsByPrice(priceList, 50.0);
+    }
+
+    @Benchmark
+    public long countItems() {
+        return ShoppingCartUtils.countItems(priceList);
+    }
+
+    @Benchmark
+    public double findMostExpensiveItem() {
+        return ShoppingCartUtils.findMostExpensiveItem(priceList);
+    }
+
+    @Benchmark
+    public double calculateTotalWeight() {
+        return ShoppingCartUtils.calculateTotalWeight(priceList);
+    }
+
+    @Benchmark
+    public double calculateTotalPrice() {
+        return ShoppingCartUtils.calculateTotalPrice(priceList);
+    }
+
+    @Benchmark
+    public double calculateTotalPriceWithDiscount() {
+        return ShoppingCartUtils.calculateTotalPriceWithDiscount(priceList, 0.1);
+    }
+
+    @Benchmark
+    public double calculateTotalPriceWithTax() {
+        return ShoppingCartUtils.calculateTotalPriceWithTax(priceList, 0.2);
+    }
+
+    @Benchmark
+    public double calculateTotalPriceWithDiscountAndTax() {
+        return ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(priceList, 0.1, 0.2);
+    }
+
+    @Benchmark
+    public double calculateCompensatedTotalPrice() {
+        return ShoppingCartUtils.calculateCompensatedTotalPrice(prices);
+    }
+
+    @Benchmark
+    public CartSummary summarize() {
+        return ShoppingCartUtils.summarize(priceList, 0.1, 0.2);
+    }
+
+    @Benchmark
+    public double calculateAveragePriceColumn() {
+        return ShoppingCartUtils.calculateAveragePrice(prices);
+    }
+
+    @Benchmark
+    public DoubleColumn filterItemsByPriceColumn() {
+        return ShoppingCartUtils.filterItemsByPrice(prices, 50.0);
+    }
+
+    @Benchmark
+    public double findMostExpensiveItemColumn() {
+        return ShoppingCartUtils.findMostExpensiveItem(prices);
+    }
+
+    @Benchmark
+    public double calculateTotalPriceColumn() {
+        return ShoppingCartUtils.calculateTotalPrice(prices);
+    }
+
+    @Benchmark
+    public double calculateTotalPriceWithDiscountAndTaxColumn() {
+        return ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(prices, 0.1, 0.2);
+    }
+
+    @Benchmark
+    public CartSummary summarizeColumn() {
+        return ShoppingCartUtils.summarize(prices, 0.1, 0.2);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(3)
+    public double getDiscountRate() {
+        return ShoppingCartUtils.getDiscountRate(DiscountType.NONE)
+                + ShoppingCartUtils.getDiscountRate(DiscountType.SEASONAL)
+                + ShoppingCartUtils.getDiscountRate(DiscountType.CLEARANCE);
+    }
+
+    @Benchmark
+    public double p99BySort() {
+        double[] sorted = prices.toArray();
+        Arrays.sort(sorted);
+        return sorted[(int) (0.99 * (sorted.length - 1))];
+    }
+
+    @Benchmark
+    public double p99BySketch() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.acceptAll(prices);
+        return sketch.getQuantile(0.99);
+    }
+}
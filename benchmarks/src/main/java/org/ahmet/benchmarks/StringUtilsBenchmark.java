@@ -0,0 +1,134 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.StringUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Palindrome checks against the StringBuilder-reverse baseline; run with the GC profiler
+ * to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StringUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private String palindrome;
+    private String nonPalindrome;
+    private int[] numbers;
+    private char[] palindromeChars;
+    private ByteBuffer palindromeUtf8;
+    private List<String> referenceCodes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        char[] half = new char[size / 2];
+        for (int i = 0; i < half.length; i++) {
+            half[i] = (char) ('a' + random.nextInt(26));
+        }
+        String left = new String(half);
+        palindrome = left + new StringBuilder(left).reverse();
+        nonPalindrome = left + "#" + left;
+        numbers = random.ints(size).toArray();
+        palindromeChars = palindrome.toCharArray();
+        palindromeUtf8 = ByteBuffer.wrap(palindrome.getBytes(StandardCharsets.UTF_8));
+        referenceCodes = new ArrayList<>(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            String code = Integer.toString(random.nextInt(1_000_000), 36);
+            referenceCodes.add(i % 10 == 0 ? code + new StringBuilder(code).reverse() : code + "-" + code);
+        }
+    }
+
+    @Benchmark
+    public boolean isPalindromeReverse() {
+        return palindrome.contentEquals(new StringBuilder(palindrome).reverse());
+    }
+
+    @Benchmark
+    public boolean isPalindromeCharArray() {
+        return StringUtils.isPalindrome(palindromeChars, 0, palindromeChars.length);
+    }
+
+    @Benchmark
+    public boolean isPalindromeUtf8() {
+        return StringUtils.isPalindrome(palindromeUtf8);
+    }
+
+    @Benchmark
+    public int countReferenceCodePalindromesReverse() {
+        int count = 0;
+        for (String code : referenceCodes) {
+            if (code.contentEquals(new StringBuilder(code).reverse())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countReferenceCodePalindromes() {
+        return StringUtils.countPalindromes(referenceCodes);
+    }
+
+    @Benchmark
+    public boolean isPalindrome() {
+        return StringUtils.isPalindrome(palindrome);
+    }
+
+    @Benchmark
+    public boolean isPalindromeMismatch() {
+        return StringUtils.isPalindrome(nonPalindrome);
+    }
+
+    @Benchmark
+    public int isNumberDivisibleByThree() {
+        int count = 0;
+        for (int number : numbers) {
+            if (StringUtils.isNumberDivisibleByThree(number)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public BitSet divisibleByThreeBulk() {
+        return StringUtils.divisibleByThree(numbers);
+    }
+
+    @Benchmark
+    public BitSet divisibleBySevenModulo() {
+        BitSet bits = new BitSet(numbers.length);
+        int divisor = 7;
+        for (int i = 0; i < numbers.length; i++) {
+            if (numbers[i] % divisor == 0) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    @Benchmark
+    public BitSet divisibleBySevenBulk() {
+        return StringUtils.divisibleBy(numbers, 7);
+    }
+
+    @Benchmark
+    public BitSet divisibleBySevenRange() {
+        return StringUtils.divisibleBy(0, size, 7);
+    }
+}
@@ -0,0 +1,65 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.Transaction;
+import org.ahmet.TransactionExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Compares virtual-thread dispatch against a fixed platform pool for consumers that
+ * block, simulated by parking for {@code blockMicros}. Run on a Java 21 JVM to get real
+ * virtual threads; on older JVMs the virtual mode falls back to a cached pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionExecutorBenchmark {
+
+    @Param({"virtual", "fixed"})
+    public String mode;
+
+    @Param({"64", "1024"})
+    public int concurrency;
+
+    @Param({"100", "1000"})
+    public int blockMicros;
+
+    @Param({"10000"})
+    public int batchSize;
+
+    private TransactionExecutor executor;
+    private List<Transaction> transactions;
+    private Consumer<Transaction> blockingSink;
+
+    @Setup
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? TransactionExecutor.virtualThreads(concurrency)
+                : TransactionExecutor.fixedPool(concurrency);
+        transactions = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            transactions.add(new Transaction(String.valueOf(i), 100.0, "credit"));
+        }
+        long blockNanos = TimeUnit.MICROSECONDS.toNanos(blockMicros);
+        blockingSink = t -> LockSupport.parkNanos(blockNanos);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        executor.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10000)
+    public long executeAll() throws InterruptedException {
+        return executor.executeAll(transactions, blockingSink).getSucceeded();
+    }
+}
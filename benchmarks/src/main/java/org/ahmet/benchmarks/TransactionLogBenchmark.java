@@ -0,0 +1,64 @@
+package org.ahmet.benchmarks;
+
+import org.ahmet.Transaction;
+import org.ahmet.TransactionBatch;
+import org.ahmet.TransactionLog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Replay throughput of {@link TransactionLog}; scores are records per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionLogBenchmark {
+    private static final int RECORDS = 1_000_000;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("transaction-log-replay");
+        try (TransactionLog log = new TransactionLog(directory, 1 << 18)) {
+            for (int i = 0; i < RECORDS; i++) {
+                log.append(new Transaction("tx-" + i, i * 0.25, i % 2 == 0 ? "credit" : "debit"));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        delete(directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long replayToConsumer(Blackhole blackhole) throws IOException {
+        return TransactionLog.replay(directory, blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int replayToBatch() throws IOException {
+        TransactionBatch batch = new TransactionBatch(RECORDS);
+        TransactionLog.replay(directory, batch);
+        return batch.size();
+    }
+
+    private static void delete(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
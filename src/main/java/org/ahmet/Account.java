@@ -1,12 +1,30 @@
 package org.ahmet;
 
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Thread-safe account. The balance is held as a fixed-point long of {@link #SCALE}
+ * units per currency unit and every update is a single compare-and-set, so deposits and
+ * withdrawals never take a lock and can never overdraw.
+ * <p>
+ * A transfer debits the source with a CAS that fails on insufficient funds and then
+ * credits the target, which cannot fail. Transfers are therefore all-or-nothing and
+ * conserve money without holding two locks; a concurrent reader may briefly observe
+ * the amount in flight between the two accounts.
+ */
 public class Account {
-    private String accountNumber;
-    private double balance;
+    public static final int SCALE_DIGITS = 4;
+    public static final long SCALE = Money.powerOfTen(SCALE_DIGITS);
+
+    private static final AtomicLongFieldUpdater<Account> BALANCE =
+            AtomicLongFieldUpdater.newUpdater(Account.class, "balanceUnits");
+
+    private final String accountNumber;
+    private volatile long balanceUnits;
 
     public Account(String accountNumber, double balance) {
         this.accountNumber = accountNumber;
-        this.balance = balance;
+        this.balanceUnits = toUnits(balance);
     }
 
     public String getAccountNumber() {
@@ -14,31 +32,103 @@ public class Account {
     }
 
     public double getBalance() {
-        return balance;
+        return (double) balanceUnits / SCALE;
+    }
+
+    public long getBalanceUnits() {
+        return balanceUnits;
+    }
+
+    public Money getBalanceMoney() {
+        return Money.ofUnits(balanceUnits, SCALE_DIGITS);
     }
 
     public void deposit(double amount) {
-        this.balance += amount;
+        depositUnits(toUnits(amount));
     }
 
     public void withdraw(double amount) {
-        if (amount <= balance) {
-            this.balance -= amount;
-        } else {
-            throw new IllegalArgumentException("Insufficient balance");
-        }
+        withdrawUnits(toUnits(amount));
     }
 
     public void transferFunds(Account targetAccount, double amount) {
-        if (amount <= balance) {
-            this.withdraw(amount);
-            targetAccount.deposit(amount);
-        } else {
-            throw new IllegalArgumentException("Insufficient balance");
+        transferUnits(targetAccount, toUnits(amount));
+    }
+
+    public void deposit(Money amount) {
+        depositUnits(toUnits(amount));
+    }
+
+    public void withdraw(Money amount) {
+        withdrawUnits(toUnits(amount));
+    }
+
+    public void transferFunds(Account targetAccount, Money amount) {
+        transferUnits(targetAccount, toUnits(amount));
+    }
+
+    private void transferUnits(Account targetAccount, long units) {
+        Metrics.ACCOUNT_TRANSFER.run(() -> moveUnits(targetAccount, units));
+    }
+
+    private void moveUnits(Account targetAccount, long units) {
+        withdrawUnits(units);
+        try {
+            targetAccount.depositUnits(units);
+        } catch (IllegalArgumentException e) {
+            depositUnits(units);
+            throw e;
         }
     }
 
     public void applyInterest(double interestRate) {
-        this.balance += this.balance * interestRate / 100;
+        long current;
+        long updated;
+        do {
+            current = balanceUnits;
+            updated = Math.addExact(current, Money.percentageUnits(current, interestRate));
+        } while (!BALANCE.compareAndSet(this, current, updated));
+    }
+
+    void depositUnits(long units) {
+        checkNotNegative(units);
+        long current;
+        long updated;
+        do {
+            current = balanceUnits;
+            if (units > Long.MAX_VALUE - current) {
+                throw new IllegalArgumentException("Balance out of range");
+            }
+            updated = current + units;
+        } while (!BALANCE.compareAndSet(this, current, updated));
+    }
+
+    void withdrawUnits(long units) {
+        checkNotNegative(units);
+        long current;
+        do {
+            current = balanceUnits;
+            if (units > current) {
+                throw new IllegalArgumentException("Insufficient balance");
+            }
+        } while (!BALANCE.compareAndSet(this, current, current - units));
+    }
+
+    private static void checkNotNegative(long units) {
+        if (units < 0) {
+            throw new IllegalArgumentException("Amount must not be negative");
+        }
+    }
+
+    static long toUnits(double amount) {
+        try {
+            return Money.roundExact(amount * SCALE);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount out of range: " + amount);
+        }
+    }
+
+    static long toUnits(Money amount) {
+        return Money.rescaleUnits(amount.getUnits(), amount.getScale(), SCALE_DIGITS);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,203 @@
+package org.ahmet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory registry of {@link Account}s keyed by account number. Accounts are spread
+ * over lock-striped shards: opening or closing an account write-locks one shard, while
+ * lookups and ledger operations read-lock the shards they touch for the whole balance
+ * update, so unrelated accounts never contend. Closing an account therefore waits for
+ * the deposits, withdrawals and transfers already in progress on it, and every later
+ * operation fails as an unknown account; no update can land on a closed account through
+ * the ledger. Transfers lock their two shards in index order.
+ */
+public class AccountLedger {
+    private final Shard[] shards;
+    private final int mask;
+
+    public AccountLedger() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public AccountLedger(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        int size = 1;
+        while (size < shardCount) {
+            size <<= 1;
+        }
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = new Shard();
+        }
+        this.mask = size - 1;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public void open(Account account) {
+        Shard shard = shardFor(account.getAccountNumber());
+        shard.lock.writeLock().lock();
+        try {
+            if (shard.accounts.putIfAbsent(account.getAccountNumber(), account) != null) {
+                throw new IllegalArgumentException("Account already exists");
+            }
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    public Account close(String accountNumber) {
+        Shard shard = shardFor(accountNumber);
+        shard.lock.writeLock().lock();
+        try {
+            Account removed = shard.accounts.remove(accountNumber);
+            if (removed == null) {
+                throw new IllegalArgumentException("Unknown account");
+            }
+            return removed;
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    public Account find(String accountNumber) {
+        Shard shard = shardFor(accountNumber);
+        shard.lock.readLock().lock();
+        try {
+            return shard.accounts.get(accountNumber);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+
+    public Account get(String accountNumber) {
+        Account account = find(accountNumber);
+        if (account == null) {
+            throw new IllegalArgumentException("Unknown account");
+        }
+        return account;
+    }
+
+    public void deposit(String accountNumber, double amount) {
+        Shard shard = shardFor(accountNumber);
+        shard.lock.readLock().lock();
+        try {
+            shard.get(accountNumber).deposit(amount);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+
+    public void withdraw(String accountNumber, double amount) {
+        Shard shard = shardFor(accountNumber);
+        shard.lock.readLock().lock();
+        try {
+            shard.get(accountNumber).withdraw(amount);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+
+    public void transferFunds(String sourceAccountNumber, String targetAccountNumber, double amount) {
+        int sourceIndex = shardIndex(sourceAccountNumber);
+        int targetIndex = shardIndex(targetAccountNumber);
+        Shard first = shards[Math.min(sourceIndex, targetIndex)];
+        Shard second = shards[Math.max(sourceIndex, targetIndex)];
+        first.lock.readLock().lock();
+        try {
+            if (second != first) {
+                second.lock.readLock().lock();
+            }
+            try {
+                Account source = shards[sourceIndex].get(sourceAccountNumber);
+                Account target = shards[targetIndex].get(targetAccountNumber);
+                source.transferFunds(target, amount);
+            } finally {
+                if (second != first) {
+                    second.lock.readLock().unlock();
+                }
+            }
+        } finally {
+            first.lock.readLock().unlock();
+        }
+    }
+
+    public void applyInterest(double interestRate) {
+        IntStream.range(0, shards.length).parallel().forEach(i -> {
+            Shard shard = shards[i];
+            shard.lock.readLock().lock();
+            try {
+                for (Account account : shard.accounts.values()) {
+                    account.applyInterest(interestRate);
+                }
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        });
+    }
+
+    public long size() {
+        long size = 0;
+        for (Shard shard : shards) {
+            shard.lock.readLock().lock();
+            try {
+                size += shard.accounts.size();
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    public double getTotalBalance() {
+        long units = 0;
+        for (Account account : accounts()) {
+            units += account.getBalanceUnits();
+        }
+        return (double) units / Account.SCALE;
+    }
+
+    public List<Account> accounts() {
+        List<Account> result = new ArrayList<>();
+        for (Shard shard : shards) {
+            shard.lock.readLock().lock();
+            try {
+                result.addAll(shard.accounts.values());
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+        return result;
+    }
+
+    private Shard shardFor(String accountNumber) {
+        return shards[shardIndex(accountNumber)];
+    }
+
+    private int shardIndex(String accountNumber) {
+        int h = accountNumber.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static class Shard {
+        private final Map<String, Account> accounts = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        Account get(String accountNumber) {
+            Account account = accounts.get(accountNumber);
+            if (account == null) {
+                throw new IllegalArgumentException("Unknown account");
+            }
+            return account;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.ahmet;
+
+import java.util.Arrays;
+
+/**
+ * Mutable cart that keeps its aggregates up to date as lines are added, repriced or
+ * removed. Count, total, mean, max and the discounted/taxed totals are O(1) to read; the
+ * max comes from an indexed binary heap, so every update is O(log n). The running total
+ * uses Neumaier compensation so long add/remove sequences do not drift.
+ * <p>
+ * {@link #add(double)} returns a line id that stays valid until the line is removed;
+ * ids of removed lines are reused.
+ */
+public class Cart {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final double discount;
+    private final double tax;
+
+    private double[] prices;
+    private int[] heapPositions;
+    private int[] heap;
+    private int[] freeIds;
+    private int freeCount;
+    private int nextId;
+    private int count;
+    private double sum;
+    private double compensation;
+
+    public Cart(double discount, double tax) {
+        this.discount = discount;
+        this.tax = tax;
+        this.prices = new double[DEFAULT_CAPACITY];
+        this.heapPositions = new int[DEFAULT_CAPACITY];
+        this.heap = new int[DEFAULT_CAPACITY];
+        this.freeIds = new int[DEFAULT_CAPACITY];
+    }
+
+    public Cart(DiscountType discountType, double tax) {
+        this(ShoppingCartUtils.getDiscountRate(discountType), tax);
+    }
+
+    public int add(double price) {
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            if (nextId == prices.length) {
+                int newCapacity = prices.length + (prices.length >> 1) + 1;
+                prices = Arrays.copyOf(prices, newCapacity);
+                heapPositions = Arrays.copyOf(heapPositions, newCapacity);
+                heap = Arrays.copyOf(heap, newCapacity);
+                freeIds = Arrays.copyOf(freeIds, newCapacity);
+            }
+            id = nextId++;
+        }
+        prices[id] = price;
+        heap[count] = id;
+        heapPositions[id] = count;
+        count++;
+        siftUp(count - 1);
+        accumulate(price);
+        return id;
+    }
+
+    public double remove(int lineId) {
+        checkLine(lineId);
+        double price = prices[lineId];
+        int position = heapPositions[lineId];
+        count--;
+        if (position != count) {
+            heap[position] = heap[count];
+            heapPositions[heap[position]] = position;
+            siftDown(position);
+            siftUp(position);
+        }
+        heapPositions[lineId] = -1;
+        freeIds[freeCount++] = lineId;
+        if (count == 0) {
+            sum = 0.0;
+            compensation = 0.0;
+        } else {
+            accumulate(-price);
+        }
+        return price;
+    }
+
+    public void updatePrice(int lineId, double price) {
+        checkLine(lineId);
+        double previous = prices[lineId];
+        prices[lineId] = price;
+        int position = heapPositions[lineId];
+        siftUp(position);
+        siftDown(heapPositions[lineId]);
+        accumulate(-previous);
+        accumulate(price);
+    }
+
+    public double getPrice(int lineId) {
+        checkLine(lineId);
+        return prices[lineId];
+    }
+
+    public boolean contains(int lineId) {
+        return lineId >= 0 && lineId < nextId && heapPositions[lineId] >= 0;
+    }
+
+    public long countItems() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public double getDiscount() {
+        return discount;
+    }
+
+    public double getTax() {
+        return tax;
+    }
+
+    public double calculateTotalPrice() {
+        return sum + compensation;
+    }
+
+    public double calculateAveragePrice() {
+        return count == 0 ? 0.0 : calculateTotalPrice() / count;
+    }
+
+    public double findMostExpensiveItem() {
+        return count == 0 ? 0.0 : prices[heap[0]];
+    }
+
+    public double calculateTotalPriceWithDiscount() {
+        return calculateTotalPrice() * (1 - discount);
+    }
+
+    public double calculateTotalPriceWithTax() {
+        return calculateTotalPrice() * (1 + tax);
+    }
+
+    public double calculateTotalPriceWithDiscountAndTax() {
+        return calculateTotalPrice() * (1 - discount) * (1 + tax);
+    }
+
+    public DoubleColumn toColumn() {
+        DoubleColumn column = new DoubleColumn(count);
+        for (int i = 0; i < count; i++) {
+            column.add(prices[heap[i]]);
+        }
+        return column;
+    }
+
+    private void accumulate(double value) {
+        double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+
+    private void siftUp(int position) {
+        int id = heap[position];
+        double price = prices[id];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentId = heap[parent];
+            if (prices[parentId] >= price) {
+                break;
+            }
+            heap[position] = parentId;
+            heapPositions[parentId] = position;
+            position = parent;
+        }
+        heap[position] = id;
+        heapPositions[id] = position;
+    }
+
+    private void siftDown(int position) {
+        int id = heap[position];
+        double price = prices[id];
+        int half = count >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < count && prices[heap[right]] > prices[heap[child]]) {
+                child = right;
+            }
+            if (price >= prices[heap[child]]) {
+                break;
+            }
+            heap[position] = heap[child];
+            heapPositions[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = id;
+        heapPositions[id] = position;
+    }
+
+    private void checkLine(int lineId) {
+        if (lineId < 0 || lineId >= nextId || heapPositions[lineId] < 0) {
+            throw new IllegalArgumentException("Unknown cart line: " + lineId);
+        }
+    }
+}
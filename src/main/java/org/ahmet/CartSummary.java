@@ -0,0 +1,101 @@
+package org.ahmet;
+
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Single-pass cart aggregate: count, sum, min, max and mean together with the
+ * discounted and taxed totals. The sum is compensated, like
+ * {@link ShoppingCartUtils#calculateTotalPrice(List)}. Partial summaries built over
+ * separate chunks of a cart can be merged with {@link #combine(CartSummary)}.
+ */
+public class CartSummary implements DoubleConsumer {
+    private final double discount;
+    private final double tax;
+    private long count;
+    private double sum;
+    private double compensation;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public CartSummary(double discount, double tax) {
+        this.discount = discount;
+        this.tax = tax;
+    }
+
+    @Override
+    public void accept(double price) {
+        count++;
+        add(price);
+        min = Math.min(min, price);
+        max = Math.max(max, price);
+    }
+
+    public CartSummary combine(CartSummary other) {
+        if (Double.compare(discount, other.discount) != 0 || Double.compare(tax, other.tax) != 0) {
+            throw new IllegalArgumentException("Cannot combine summaries with different discount or tax rates");
+        }
+        count += other.count;
+        add(other.sum);
+        compensation += other.compensation;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    private void add(double value) {
+        double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+
+    public double getDiscount() {
+        return discount;
+    }
+
+    public double getTax() {
+        return tax;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum + compensation;
+    }
+
+    public double getMin() {
+        return count == 0 ? 0.0 : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? 0.0 : max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : getSum() / count;
+    }
+
+    public double getDiscountedTotal() {
+        return getSum() * (1 - discount);
+    }
+
+    public double getTaxedTotal() {
+        return getSum() * (1 + tax);
+    }
+
+    public double getDiscountedAndTaxedTotal() {
+        return getSum() * (1 - discount) * (1 + tax);
+    }
+
+    @Override
+    public String toString() {
+        return "CartSummary{count=" + count + ", sum=" + getSum() + ", min=" + getMin() + ", max=" + getMax()
+                + ", mean=" + getMean() + ", discount=" + discount + ", tax=" + tax + "}";
+    }
+}
@@ -0,0 +1,63 @@
+package org.ahmet;
+
+/**
+ * Neumaier-compensated summation over fixed-size blocks. Block partials are always
+ * folded in index order, so the result is independent of how the blocks were
+ * scheduled across threads.
+ */
+final class CompensatedSum {
+    static final int BLOCK_SIZE = 4096;
+
+    private CompensatedSum() {
+    }
+
+    static int blockCount(int length) {
+        return (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    static void sumBlocks(double[] values, int offset, int length, int fromBlock, int toBlock, double[] sums, double[] compensations) {
+        for (int block = fromBlock; block < toBlock; block++) {
+            int start = offset + block * BLOCK_SIZE;
+            int end = offset + Math.min(length, (block + 1) * BLOCK_SIZE);
+            double sum = 0.0;
+            double compensation = 0.0;
+            for (int i = start; i < end; i++) {
+                double value = values[i];
+                double t = sum + value;
+                if (Math.abs(sum) >= Math.abs(value)) {
+                    compensation += (sum - t) + value;
+                } else {
+                    compensation += (value - t) + sum;
+                }
+                sum = t;
+            }
+            sums[block] = sum;
+            compensations[block] = compensation;
+        }
+    }
+
+    static double combine(double[] sums, double[] compensations) {
+        double sum = 0.0;
+        double compensation = 0.0;
+        for (int block = 0; block < sums.length; block++) {
+            double value = sums[block];
+            double t = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+            sum = t;
+            compensation += compensations[block];
+        }
+        return sum + compensation;
+    }
+
+    static double sum(double[] values, int offset, int length) {
+        int blocks = blockCount(length);
+        double[] sums = new double[blocks];
+        double[] compensations = new double[blocks];
+        sumBlocks(values, offset, length, 0, blocks, sums, compensations);
+        return combine(sums, compensations);
+    }
+}
@@ -0,0 +1,267 @@
+package org.ahmet;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link RuleSet} compiled into one predicate. Rules are evaluated in order and stop at
+ * the first rejection. {@link #validateAll(List)} counts how often each rule was evaluated
+ * and rejected; single {@link #test(Object)} calls only do so after
+ * {@link #setStatsEnabled(boolean)}, so the plain predicate pays nothing for statistics.
+ * Because short-circuiting hides how selective the later rules are, {@code validateAll}
+ * also runs every rule on one value in {@link #SAMPLE_INTERVAL} and {@link #reorder()}
+ * uses those samples to move the rules that reject most often to the front. Each batch
+ * ends with a reorder.
+ */
+public class CompiledRules<T> implements Predicate<T> {
+    public static final int SAMPLE_INTERVAL = 16;
+
+    private volatile CompiledRule<T>[] order;
+    private volatile boolean statsEnabled;
+
+    @SuppressWarnings("unchecked")
+    CompiledRules(List<CompiledRule<T>> rules) {
+        this.order = rules.toArray(new CompiledRule[0]);
+    }
+
+    @Override
+    public boolean test(T value) {
+        if (statsEnabled) {
+            return testCounted(value);
+        }
+        for (CompiledRule<T> rule : order) {
+            if (!rule.test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean testCounted(T value) {
+        for (CompiledRule<T> rule : order) {
+            rule.evaluated.increment();
+            if (!rule.test(value)) {
+                rule.rejected.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates every element, returning the positions that pass all rules. Sampled
+     * elements run every rule once and reuse those results for the validation itself.
+     */
+    public BitSet validateAll(List<? extends T> values) {
+        CompiledRule<T>[] rules = order;
+        long[] evaluated = new long[rules.length];
+        long[] rejected = new long[rules.length];
+        long[] sampledRejected = new long[rules.length];
+        long samples = 0;
+        BitSet valid = new BitSet(values.size());
+        int i = 0;
+        for (T value : values) {
+            boolean passed = true;
+            if (i % SAMPLE_INTERVAL == 0) {
+                samples++;
+                for (int r = 0; r < rules.length; r++) {
+                    if (passed) {
+                        evaluated[r]++;
+                    }
+                    if (!rules[r].test(value)) {
+                        sampledRejected[r]++;
+                        if (passed) {
+                            rejected[r]++;
+                            passed = false;
+                        }
+                    }
+                }
+            } else {
+                for (int r = 0; r < rules.length; r++) {
+                    evaluated[r]++;
+                    if (!rules[r].test(value)) {
+                        rejected[r]++;
+                        passed = false;
+                        break;
+                    }
+                }
+            }
+            if (passed) {
+                valid.set(i);
+            }
+            i++;
+        }
+        for (int r = 0; r < rules.length; r++) {
+            rules[r].evaluated.add(evaluated[r]);
+            rules[r].rejected.add(rejected[r]);
+            rules[r].sampled.add(samples);
+            rules[r].sampledRejected.add(sampledRejected[r]);
+        }
+        reorder();
+        return valid;
+    }
+
+    public int countValid(List<? extends T> values) {
+        return validateAll(values).cardinality();
+    }
+
+    /**
+     * Makes {@link #test(Object)} count evaluations and rejections per rule. Off by default.
+     */
+    public void setStatsEnabled(boolean enabled) {
+        statsEnabled = enabled;
+    }
+
+    public boolean isStatsEnabled() {
+        return statsEnabled;
+    }
+
+    /**
+     * Sorts the rules by observed rejection rate, highest first, so the rule most likely
+     * to reject a value is tried first. Sampled rates are used when there are any. The
+     * rates are read once before sorting, so concurrent updates cannot change the order
+     * mid-sort.
+     */
+    public void reorder() {
+        CompiledRule<T>[] sorted = order.clone();
+        double[] rates = new double[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            rates[i] = sorted[i].rejectionRate();
+        }
+        for (int i = 1; i < sorted.length; i++) {
+            CompiledRule<T> rule = sorted[i];
+            double rate = rates[i];
+            int j = i - 1;
+            while (j >= 0 && rates[j] < rate) {
+                sorted[j + 1] = sorted[j];
+                rates[j + 1] = rates[j];
+                j--;
+            }
+            sorted[j + 1] = rule;
+            rates[j + 1] = rate;
+        }
+        order = sorted;
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * Statistics per rule, in current evaluation order. Rules later in the order are only
+     * evaluated for values that passed the earlier ones.
+     */
+    public List<RuleStats> getStats() {
+        List<RuleStats> stats = new ArrayList<>();
+        for (CompiledRule<T> rule : order) {
+            stats.add(new RuleStats(rule.name, rule.evaluated.sum(), rule.rejected.sum()));
+        }
+        return stats;
+    }
+
+    public void resetStats() {
+        for (CompiledRule<T> rule : order) {
+            rule.evaluated.reset();
+            rule.rejected.reset();
+            rule.sampled.reset();
+            rule.sampledRejected.reset();
+        }
+    }
+
+    public static class RuleStats {
+        private final String name;
+        private final long evaluated;
+        private final long rejected;
+
+        RuleStats(String name, long evaluated, long rejected) {
+            this.name = name;
+            this.evaluated = evaluated;
+            this.rejected = rejected;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getEvaluated() {
+            return evaluated;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public double getRejectionRate() {
+            return evaluated == 0 ? 0.0 : (double) rejected / evaluated;
+        }
+
+        @Override
+        public String toString() {
+            return name + "{evaluated=" + evaluated + ", rejected=" + rejected + "}";
+        }
+    }
+
+    abstract static class CompiledRule<T> {
+        final String name;
+        final LongAdder evaluated = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder sampled = new LongAdder();
+        final LongAdder sampledRejected = new LongAdder();
+
+        CompiledRule(String name) {
+            this.name = name;
+        }
+
+        abstract boolean test(T value);
+
+        double rejectionRate() {
+            long samples = sampled.sum();
+            if (samples > 0) {
+                return (double) sampledRejected.sum() / samples;
+            }
+            long count = evaluated.sum();
+            return count == 0 ? 0.0 : (double) rejected.sum() / count;
+        }
+    }
+
+    static final class RangeRule<T> extends CompiledRule<T> {
+        private final ToDoubleFunction<T> extractor;
+        private final double lower;
+        private final boolean lowerInclusive;
+        private final double upper;
+        private final boolean upperInclusive;
+
+        RangeRule(String name, ToDoubleFunction<T> extractor, double lower, boolean lowerInclusive, double upper, boolean upperInclusive) {
+            super(name);
+            this.extractor = extractor;
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive;
+        }
+
+        @Override
+        boolean test(T value) {
+            double v = extractor.applyAsDouble(value);
+            return (lowerInclusive ? v >= lower : v > lower) && (upperInclusive ? v <= upper : v < upper);
+        }
+    }
+
+    static final class PredicateRule<T> extends CompiledRule<T> {
+        private final Predicate<T> predicate;
+
+        PredicateRule(String name, Predicate<T> predicate) {
+            super(name);
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean test(T value) {
+            return predicate.test(value);
+        }
+    }
+}
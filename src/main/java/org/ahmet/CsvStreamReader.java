@@ -0,0 +1,298 @@
+package org.ahmet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Streaming CSV reader over a {@link ReadableByteChannel}. Input is read in fixed-size
+ * chunks and each field is decoded straight from a reusable byte buffer, so memory use is
+ * bounded by the chunk size and {@link #MAX_FIELD_LENGTH} regardless of the file size.
+ * Numbers are parsed from the bytes without creating a String. Quoted fields follow
+ * RFC 4180 ({@code ""} is an escaped quote). A reader consumes its channel once.
+ */
+public class CsvStreamReader {
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    public static final int MAX_FIELD_LENGTH = 4096;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final byte[] CREDIT = "credit".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DEBIT = "debit".getBytes(StandardCharsets.US_ASCII);
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer chunk;
+    private final byte[] field = new byte[MAX_FIELD_LENGTH];
+
+    public CsvStreamReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_CHUNK_SIZE);
+    }
+
+    public CsvStreamReader(ReadableByteChannel channel, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.channel = channel;
+        this.chunk = ByteBuffer.allocate(chunkSize);
+    }
+
+    /**
+     * Feeds the numeric value of one column of every row to {@code sink}, e.g. a
+     * {@link CartSummary} or {@code DoubleColumn::add}. Empty cells are skipped.
+     *
+     * @return the number of values fed to the sink
+     */
+    public long readColumn(int column, boolean skipHeader, DoubleConsumer sink) throws IOException {
+        long[] count = new long[1];
+        parse(skipHeader, new FieldHandler() {
+            @Override
+            public void field(int index, byte[] bytes, int length) {
+                if (index == column && length > 0) {
+                    sink.accept(parseDouble(bytes, 0, length));
+                    count[0]++;
+                }
+            }
+
+            @Override
+            public void endRow(int columns) {
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Reads {@code id,amount,type} rows into a reused {@link TransactionBatch} and hands it
+     * to {@code sink} every {@code batchSize} rows and once more for the remainder. The
+     * batch is cleared after each call, so the sink must consume it before returning.
+     *
+     * @return the number of transactions read
+     */
+    public long readTransactions(boolean skipHeader, int batchSize, Consumer<TransactionBatch> sink) throws IOException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        TransactionBatch batch = new TransactionBatch(batchSize);
+        long[] count = new long[1];
+        parse(skipHeader, new FieldHandler() {
+            private String id;
+            private double amount;
+            private byte type;
+
+            @Override
+            public void field(int index, byte[] bytes, int length) {
+                switch (index) {
+                    case 0:
+                        id = new String(bytes, 0, length, StandardCharsets.UTF_8);
+                        break;
+                    case 1:
+                        amount = parseDouble(bytes, 0, length);
+                        break;
+                    case 2:
+                        type = parseType(bytes, length);
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            @Override
+            public void endRow(int columns) {
+                if (columns < 3) {
+                    throw new IllegalArgumentException("Expected id,amount,type but got " + columns + " columns");
+                }
+                batch.add(id, amount, type);
+                count[0]++;
+                if (batch.size() == batchSize) {
+                    sink.accept(batch);
+                    batch.clear();
+                }
+            }
+        });
+        if (batch.size() > 0) {
+            sink.accept(batch);
+            batch.clear();
+        }
+        return count[0];
+    }
+
+    private interface FieldHandler {
+        void field(int index, byte[] bytes, int length);
+
+        void endRow(int columns);
+    }
+
+    private void parse(boolean skipHeader, FieldHandler handler) throws IOException {
+        boolean skipping = skipHeader;
+        boolean inQuotes = false;
+        boolean quoteSeen = false;
+        boolean rowHasContent = false;
+        int column = 0;
+        int length = 0;
+        chunk.clear();
+        while (channel.read(chunk) >= 0) {
+            chunk.flip();
+            while (chunk.hasRemaining()) {
+                byte b = chunk.get();
+                if (inQuotes) {
+                    if (b == '"') {
+                        inQuotes = false;
+                        quoteSeen = true;
+                    } else {
+                        length = append(length, b);
+                    }
+                    continue;
+                }
+                if (b == '"') {
+                    if (quoteSeen) {
+                        length = append(length, b);
+                    }
+                    inQuotes = true;
+                    quoteSeen = false;
+                    rowHasContent = true;
+                } else if (b == ',') {
+                    if (!skipping) {
+                        handler.field(column, field, length);
+                    }
+                    column++;
+                    length = 0;
+                    quoteSeen = false;
+                    rowHasContent = true;
+                } else if (b == '\n') {
+                    if (rowHasContent || length > 0) {
+                        if (!skipping) {
+                            handler.field(column, field, length);
+                            handler.endRow(column + 1);
+                        }
+                        skipping = false;
+                    }
+                    column = 0;
+                    length = 0;
+                    quoteSeen = false;
+                    rowHasContent = false;
+                } else if (b != '\r') {
+                    length = append(length, b);
+                    quoteSeen = false;
+                    rowHasContent = true;
+                }
+            }
+            chunk.clear();
+        }
+        if (inQuotes) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        if ((rowHasContent || length > 0) && !skipping) {
+            handler.field(column, field, length);
+            handler.endRow(column + 1);
+        }
+    }
+
+    private int append(int length, byte b) {
+        if (length == field.length) {
+            throw new IllegalArgumentException("Field longer than " + MAX_FIELD_LENGTH + " bytes");
+        }
+        field[length] = b;
+        return length + 1;
+    }
+
+    private static byte parseType(byte[] bytes, int length) {
+        if (matches(bytes, length, CREDIT)) {
+            return TransactionBatch.CREDIT;
+        }
+        if (matches(bytes, length, DEBIT)) {
+            return TransactionBatch.DEBIT;
+        }
+        throw new IllegalArgumentException("Unknown transaction type: " + new String(bytes, 0, length, StandardCharsets.UTF_8));
+    }
+
+    private static boolean matches(byte[] bytes, int length, byte[] expected) {
+        if (length != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a decimal number from ASCII bytes. Values with at most 15 significant digits
+     * and a small exponent are computed exactly from a long mantissa and a power of ten;
+     * anything else falls back to {@link Double#parseDouble(String)}.
+     */
+    static double parseDouble(byte[] bytes, int from, int to) {
+        int start = from;
+        int end = to;
+        while (start < end && bytes[start] == ' ') start++;
+        while (end > start && bytes[end - 1] == ' ') end--;
+        int i = start;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean dot = false;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                anyDigit = true;
+                if (mantissa == 0 && b == '0') {
+                    if (dot) exponent--;
+                    continue;
+                }
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    if (dot) exponent--;
+                } else {
+                    digits++;
+                    if (!dot) exponent++;
+                }
+            } else if (b == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+            int explicit = 0;
+            boolean exponentDigit = false;
+            for (; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                explicit = Math.min(explicit * 10 + (bytes[i] - '0'), 100_000);
+                exponentDigit = true;
+            }
+            if (!exponentDigit) {
+                return slowParse(bytes, start, end);
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (!anyDigit || i != end) {
+            return slowParse(bytes, start, end);
+        }
+        if (digits <= 15 && exponent >= -22 && exponent <= 22) {
+            double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+        return slowParse(bytes, start, end);
+    }
+
+    private static double slowParse(byte[] bytes, int from, int to) {
+        return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,264 @@
+package org.ahmet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Order analytics over many customers. The customer list is split into contiguous
+ * partitions that are scanned in parallel; each partition writes its customers' totals
+ * into a disjoint slice of one array and keeps its own top spenders and product counts,
+ * which are merged once at the end. An order line is worth {@code price * quantity}.
+ * Lists without {@link RandomAccess} are copied into an {@link ArrayList} first so the
+ * partitions can index into them.
+ */
+public class CustomerAnalytics {
+    private static final Comparator<Spender> BY_SPEND =
+            Comparator.comparingDouble(Spender::getTotal).thenComparing(Comparator.comparingInt(Spender::getIndex).reversed());
+
+    private final ForkJoinPool pool;
+    private final int partitions;
+
+    public CustomerAnalytics() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.commonPool().getParallelism() * 4);
+    }
+
+    public CustomerAnalytics(ForkJoinPool pool, int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Partitions must be positive");
+        }
+        this.pool = pool;
+        this.partitions = partitions;
+    }
+
+    public Report analyze(List<Customer> customers, int topSpenders) {
+        if (topSpenders < 0) {
+            throw new IllegalArgumentException("Top spenders must not be negative");
+        }
+        List<Customer> indexed = customers instanceof RandomAccess ? customers : new ArrayList<>(customers);
+        int size = indexed.size();
+        double[] totals = new double[size];
+        int parts = Math.max(1, Math.min(partitions, size));
+        Partial merged = pool.submit(() -> IntStream.range(0, parts).parallel()
+                .mapToObj(part -> scan(indexed, totals, (int) ((long) size * part / parts),
+                        (int) ((long) size * (part + 1) / parts), topSpenders))
+                .reduce((left, right) -> left.combine(right, topSpenders))
+                .orElseGet(Partial::new)).join();
+        List<Spender> top = new ArrayList<>(merged.top);
+        top.sort(BY_SPEND.reversed());
+        List<ProductStats> products = new ArrayList<>(merged.products.values());
+        products.sort(Comparator.comparingLong(ProductStats::getQuantity).reversed()
+                .thenComparing(ProductStats::getName));
+        return new Report(totals, merged.total, merged.orderLines, top, products);
+    }
+
+    private static Partial scan(List<Customer> customers, double[] totals, int from, int to, int topSpenders) {
+        Partial partial = new Partial();
+        for (int i = from; i < to; i++) {
+            Customer customer = customers.get(i);
+            double customerTotal = 0;
+            List<Product> orders = customer.getOrders();
+            if (orders != null) {
+                for (Product product : orders) {
+                    double lineTotal = product.getPrice() * product.getQuantity();
+                    customerTotal += lineTotal;
+                    partial.products.computeIfAbsent(product.getName(), ProductStats::new)
+                            .add(product.getQuantity(), lineTotal, 1);
+                }
+                partial.orderLines += orders.size();
+            }
+            totals[i] = customerTotal;
+            partial.total += customerTotal;
+            partial.offer(i, customer, customerTotal, topSpenders);
+        }
+        return partial;
+    }
+
+    private static class Partial {
+        private final Map<String, ProductStats> products = new HashMap<>();
+        private final PriorityQueue<Spender> top = new PriorityQueue<>(BY_SPEND);
+        private double total;
+        private long orderLines;
+
+        /**
+         * Offers a scanned customer, creating its {@link Spender} only if it makes the cut.
+         */
+        void offer(int index, Customer customer, double customerTotal, int limit) {
+            if (limit == 0) {
+                return;
+            }
+            if (top.size() == limit) {
+                Spender min = top.peek();
+                int order = Double.compare(customerTotal, min.getTotal());
+                if (order < 0 || (order == 0 && index > min.getIndex())) {
+                    return;
+                }
+                top.poll();
+            }
+            top.add(new Spender(index, customer.getName(), customerTotal));
+        }
+
+        void offer(Spender spender, int limit) {
+            if (limit == 0) {
+                return;
+            }
+            if (top.size() < limit) {
+                top.add(spender);
+            } else if (BY_SPEND.compare(spender, top.peek()) > 0) {
+                top.poll();
+                top.add(spender);
+            }
+        }
+
+        Partial combine(Partial other, int limit) {
+            for (Spender spender : other.top) {
+                offer(spender, limit);
+            }
+            other.products.forEach((name, stats) -> products.merge(name, stats, ProductStats::combine));
+            total += other.total;
+            orderLines += other.orderLines;
+            return this;
+        }
+    }
+
+    public static class Report {
+        private final double[] customerTotals;
+        private final double total;
+        private final long orderLines;
+        private final List<Spender> topSpenders;
+        private final List<ProductStats> products;
+
+        Report(double[] customerTotals, double total, long orderLines, List<Spender> topSpenders, List<ProductStats> products) {
+            this.customerTotals = customerTotals;
+            this.total = total;
+            this.orderLines = orderLines;
+            this.topSpenders = Collections.unmodifiableList(topSpenders);
+            this.products = Collections.unmodifiableList(products);
+        }
+
+        public int getCustomerCount() {
+            return customerTotals.length;
+        }
+
+        /**
+         * Total spent by the customer at {@code index} in the analysed list.
+         */
+        public double getCustomerTotal(int index) {
+            return customerTotals[index];
+        }
+
+        public double[] getCustomerTotals() {
+            return Arrays.copyOf(customerTotals, customerTotals.length);
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        public long getOrderLineCount() {
+            return orderLines;
+        }
+
+        public double getAverageCustomerTotal() {
+            return customerTotals.length == 0 ? 0.0 : total / customerTotals.length;
+        }
+
+        /**
+         * Highest spenders first; ties keep the order of the input list.
+         */
+        public List<Spender> getTopSpenders() {
+            return topSpenders;
+        }
+
+        /**
+         * Every product ordered, most units first.
+         */
+        public List<ProductStats> getProductPopularity() {
+            return products;
+        }
+
+        public List<ProductStats> getMostPopularProducts(int limit) {
+            return products.subList(0, Math.min(limit, products.size()));
+        }
+    }
+
+    public static class Spender {
+        private final int index;
+        private final String name;
+        private final double total;
+
+        Spender(int index, String name, double total) {
+            this.index = index;
+            this.name = name;
+            this.total = total;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + total;
+        }
+    }
+
+    public static class ProductStats {
+        private final String name;
+        private long quantity;
+        private double revenue;
+        private long orderLines;
+
+        ProductStats(String name) {
+            this.name = name;
+        }
+
+        void add(long quantity, double revenue, long orderLines) {
+            this.quantity += quantity;
+            this.revenue += revenue;
+            this.orderLines += orderLines;
+        }
+
+        ProductStats combine(ProductStats other) {
+            add(other.quantity, other.revenue, other.orderLines);
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getQuantity() {
+            return quantity;
+        }
+
+        public double getRevenue() {
+            return revenue;
+        }
+
+        public long getOrderLines() {
+            return orderLines;
+        }
+
+        @Override
+        public String toString() {
+            return name + "{quantity=" + quantity + ", revenue=" + revenue + ", orderLines=" + orderLines + "}";
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package org.ahmet;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
 import java.time.format.TextStyle;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DateUtils {
+    public static final int MAX_CACHED_LOCALES = 32;
+
+    private static final List<String> ENGLISH_MONTH_NAMES = buildMonthNames(Locale.ENGLISH);
+    private static final Map<Locale, List<String>> MONTH_NAMES = new ConcurrentHashMap<>();
+
     public static boolean isLeapYear(int year) {
         if (year % 4 != 0) {
             return false;
@@ -17,9 +30,37 @@ public class DateUtils {
     }
 
     public static String getMonthName(int month) {
-        return LocalDate.of(2021, month, 1)
-                .getMonth()
-                .getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+        return ENGLISH_MONTH_NAMES.get(Month.of(month).ordinal());
+    }
+
+    public static String getMonthName(int month, Locale locale) {
+        return getMonthNames(locale).get(Month.of(month).ordinal());
+    }
+
+    /**
+     * Full month names for {@code locale}, January first. Tables are built on first use and
+     * cached for the first {@link #MAX_CACHED_LOCALES} locales seen; cache hits do not take
+     * a lock, and tables for further locales are built on every call.
+     */
+    public static List<String> getMonthNames(Locale locale) {
+        if (Locale.ENGLISH.equals(locale)) {
+            return ENGLISH_MONTH_NAMES;
+        }
+        List<String> names = MONTH_NAMES.get(locale);
+        if (names == null) {
+            names = buildMonthNames(locale);
+            if (MONTH_NAMES.size() < MAX_CACHED_LOCALES) {
+                List<String> cached = MONTH_NAMES.putIfAbsent(locale, names);
+                if (cached != null) {
+                    names = cached;
+                }
+            }
+        }
+        return names;
+    }
+
+    static int cachedLocaleCount() {
+        return MONTH_NAMES.size();
     }
 
     public static int getDaysInMonth(int month) {
@@ -35,4 +76,50 @@ public class DateUtils {
         }
     }
 
-}
\ No newline at end of file
+    public static int getDaysInMonth(int month, int year) {
+        return month == 2 && isLeapYear(year) ? 29 : getDaysInMonth(month);
+    }
+
+    /**
+     * Number of dates falling in each calendar month regardless of year, January at index 0.
+     */
+    public static long[] countByMonth(List<LocalDate> dates) {
+        long[] counts = new long[12];
+        for (LocalDate date : dates) {
+            counts[date.getMonthValue() - 1]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Sum of {@code amounts[i]} for every {@code dates.get(i)} in each calendar month,
+     * January at index 0.
+     */
+    public static double[] sumByMonth(List<LocalDate> dates, double[] amounts) {
+        if (dates.size() != amounts.length) {
+            throw new IllegalArgumentException("Dates and amounts must have the same length");
+        }
+        double[] sums = new double[12];
+        int i = 0;
+        for (LocalDate date : dates) {
+            sums[date.getMonthValue() - 1] += amounts[i++];
+        }
+        return sums;
+    }
+
+    public static SortedMap<YearMonth, Long> countByYearMonth(List<LocalDate> dates) {
+        SortedMap<YearMonth, Long> counts = new TreeMap<>();
+        for (LocalDate date : dates) {
+            counts.merge(YearMonth.of(date.getYear(), date.getMonthValue()), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    private static List<String> buildMonthNames(Locale locale) {
+        String[] names = new String[12];
+        for (Month month : Month.values()) {
+            names[month.ordinal()] = month.getDisplayName(TextStyle.FULL, locale);
+        }
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+}
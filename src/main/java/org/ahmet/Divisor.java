@@ -0,0 +1,74 @@
+package org.ahmet;
+
+/**
+ * Division-free divisibility test for a fixed positive divisor. The divisor is split into
+ * {@code odd * 2^k}; a value is divisible when its low {@code k} bits are zero and
+ * {@code value * inverse(odd) + A <= 2A} as an unsigned number, where {@code inverse} is
+ * the multiplicative inverse modulo {@code 2^32} (or {@code 2^64}) and
+ * {@code A = floor(MAX_VALUE / odd)}. Multiplying by the inverse maps exactly the signed
+ * multiples of {@code odd} onto {@code [-A, A]}, so the test costs one multiply, one add
+ * and one compare for any sign of the value.
+ */
+public final class Divisor {
+    private final long divisor;
+    private final long lowMask;
+    private final boolean oddIsOne;
+    private final int intInverse;
+    private final int intBias;
+    private final int intLimit;
+    private final long longInverse;
+    private final long longBias;
+    private final long longLimit;
+
+    private Divisor(long divisor) {
+        this.divisor = divisor;
+        int shift = Long.numberOfTrailingZeros(divisor);
+        long odd = divisor >>> shift;
+        this.lowMask = (1L << shift) - 1;
+        this.oddIsOne = odd == 1;
+        long inverse = odd;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - odd * inverse;
+        }
+        this.longInverse = inverse;
+        this.longBias = Long.MAX_VALUE / odd;
+        this.longLimit = 2 * longBias;
+        this.intInverse = (int) inverse;
+        this.intBias = odd > Integer.MAX_VALUE ? 0 : (int) (Integer.MAX_VALUE / odd);
+        this.intLimit = 2 * intBias;
+    }
+
+    public static Divisor of(long divisor) {
+        if (divisor <= 0) {
+            throw new IllegalArgumentException("Divisor must be positive");
+        }
+        return new Divisor(divisor);
+    }
+
+    public long getDivisor() {
+        return divisor;
+    }
+
+    public boolean divides(int value) {
+        if ((value & lowMask) != 0) {
+            return false;
+        }
+        if (oddIsOne) {
+            return true;
+        }
+        if (intBias == 0) {
+            return value == 0;
+        }
+        return Integer.compareUnsigned(value * intInverse + intBias, intLimit) <= 0;
+    }
+
+    public boolean divides(long value) {
+        if ((value & lowMask) != 0) {
+            return false;
+        }
+        if (oddIsOne) {
+            return true;
+        }
+        return Long.compareUnsigned(value * longInverse + longBias, longLimit) <= 0;
+    }
+}
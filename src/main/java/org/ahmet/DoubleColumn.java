@@ -0,0 +1,173 @@
+package org.ahmet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable column of primitive doubles, used by the {@link ShoppingCartUtils} overloads
+ * so prices can be aggregated without boxing. Views share the backing array of their
+ * parent and are read-only.
+ */
+public class DoubleColumn {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] values;
+    private final int offset;
+    private int size;
+    private final boolean view;
+
+    public DoubleColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DoubleColumn(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.values = new double[initialCapacity];
+        this.offset = 0;
+        this.size = 0;
+        this.view = false;
+    }
+
+    private DoubleColumn(double[] values, int offset, int size, boolean view) {
+        this.values = values;
+        this.offset = offset;
+        this.size = size;
+        this.view = view;
+    }
+
+    public static DoubleColumn of(double... values) {
+        return new DoubleColumn(Arrays.copyOf(values, values.length), 0, values.length, false);
+    }
+
+    public static DoubleColumn wrap(double[] values) {
+        return new DoubleColumn(values, 0, values.length, false);
+    }
+
+    public static DoubleColumn from(List<Double> values) {
+        double[] copy = new double[values.size()];
+        int i = 0;
+        for (Double value : values) {
+            copy[i++] = value;
+        }
+        return new DoubleColumn(copy, 0, copy.length, false);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isView() {
+        return view;
+    }
+
+    public double get(int index) {
+        checkIndex(index);
+        return values[offset + index];
+    }
+
+    public void set(int index, double value) {
+        checkWritable();
+        checkIndex(index);
+        values[offset + index] = value;
+    }
+
+    public void add(double value) {
+        checkWritable();
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    public void addAll(double[] source, int from, int to) {
+        checkWritable();
+        int length = to - from;
+        if (size + length > values.length) {
+            grow(size + length);
+        }
+        System.arraycopy(source, from, values, size, length);
+        size += length;
+    }
+
+    public void addAll(DoubleColumn other) {
+        addAll(other.values, other.offset, other.offset + other.size);
+    }
+
+    public void clear() {
+        checkWritable();
+        size = 0;
+    }
+
+    public DoubleColumn view(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid view range [" + from + ", " + to + ") for size " + size);
+        }
+        return new DoubleColumn(values, offset + from, to - from, true);
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOfRange(values, offset, offset + size);
+    }
+
+    public List<Double> toList() {
+        List<Double> list = new ArrayList<>(size);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            list.add(values[i]);
+        }
+        return list;
+    }
+
+    double[] array() {
+        return values;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, values.length + (values.length >> 1) + 1);
+        values = Arrays.copyOf(values, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private void checkWritable() {
+        if (view) {
+            throw new UnsupportedOperationException("Column views are read-only");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DoubleColumn)) return false;
+        DoubleColumn other = (DoubleColumn) o;
+        return Arrays.equals(values, offset, offset + size, other.values, other.offset, other.offset + other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            result = 31 * result + Double.hashCode(values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -34,4 +34,20 @@ public class Employee {
     public void promote(double increaseAmount) {
         this.salary += increaseAmount;
     }
+
+    public void promote(Money increaseAmount) {
+        this.salary += increaseAmount.toDouble();
+    }
+
+    public void giveRaise(double percentage, int scale) {
+        this.salary = Money.of(salary, scale).applyPercentage(percentage).toDouble();
+    }
+
+    public Money getSalary(int scale) {
+        return Money.of(salary, scale);
+    }
+
+    public Money calculateAnnualSalary(int scale) {
+        return Money.of(salary, scale).multiply(12);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package org.ahmet;
+
+/**
+ * Calendar fields from epoch days ({@code 1970-01-01} is day 0) and epoch milliseconds in
+ * UTC, computed with integer arithmetic only, so bulk passes over {@code long[]}
+ * timestamp columns do not allocate. Uses the proleptic Gregorian calendar like
+ * {@link java.time.LocalDate}; the conversion is Howard Hinnant's {@code civil_from_days},
+ * which shifts the year to start in March so that February is last and leap days need
+ * no special case.
+ */
+public class EpochDateUtils {
+    public static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final long DAYS_0000_TO_1970 = 719_468;
+    private static final long DAYS_PER_ERA = 146_097;
+
+    public static long epochDay(long epochMillis) {
+        return Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+    }
+
+    public static long epochDay(int year, int month, int day) {
+        checkMonth(month);
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    public static int year(long epochDay) {
+        return (int) (yearMonth(epochDay) >> 4);
+    }
+
+    public static int month(long epochDay) {
+        return (int) (yearMonth(epochDay) & 0xF);
+    }
+
+    public static int dayOfMonth(long epochDay) {
+        long dayOfEra = dayOfEra(epochDay);
+        long dayOfYear = dayOfYear(dayOfEra, yearOfEra(dayOfEra));
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        return (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+    }
+
+    public static boolean isLeapYearOfEpochDay(long epochDay) {
+        return DateUtils.isLeapYear(year(epochDay));
+    }
+
+    public static int daysInMonth(long epochDay) {
+        long yearMonth = yearMonth(epochDay);
+        return DateUtils.getDaysInMonth((int) (yearMonth & 0xF), (int) (yearMonth >> 4));
+    }
+
+    /**
+     * Months since year 0, i.e. {@code year * 12 + month - 1}; consecutive months map to
+     * consecutive integers, which makes it a convenient bucket key.
+     */
+    public static int monthIndex(long epochDay) {
+        long yearMonth = yearMonth(epochDay);
+        return (int) ((yearMonth >> 4) * 12 + (yearMonth & 0xF) - 1);
+    }
+
+    /**
+     * Writes {@link #monthIndex(long)} of every timestamp into {@code out}.
+     */
+    public static void monthIndexes(long[] epochMillis, int[] out) {
+        if (out.length < epochMillis.length) {
+            throw new IllegalArgumentException("Output array is shorter than the input");
+        }
+        for (int i = 0; i < epochMillis.length; i++) {
+            out[i] = monthIndex(epochDay(epochMillis[i]));
+        }
+    }
+
+    /**
+     * Number of timestamps in each calendar month regardless of year, January at index 0.
+     */
+    public static long[] countByMonth(long[] epochMillis) {
+        long[] counts = new long[12];
+        for (long millis : epochMillis) {
+            counts[month(epochDay(millis)) - 1]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Number of timestamps in each month from January of {@code fromYear} to December of
+     * {@code toYear}, indexed by {@code (year - fromYear) * 12 + month - 1}.
+     */
+    public static long[] countByYearMonth(long[] epochMillis, int fromYear, int toYear) {
+        long[] counts = new long[bucketCount(fromYear, toYear)];
+        int base = fromYear * 12;
+        for (long millis : epochMillis) {
+            counts[bucket(monthIndex(epochDay(millis)) - base, counts.length, millis)]++;
+        }
+        return counts;
+    }
+
+    public static double[] sumByYearMonth(long[] epochMillis, double[] amounts, int fromYear, int toYear) {
+        if (epochMillis.length != amounts.length) {
+            throw new IllegalArgumentException("Timestamps and amounts must have the same length");
+        }
+        double[] sums = new double[bucketCount(fromYear, toYear)];
+        int base = fromYear * 12;
+        for (int i = 0; i < epochMillis.length; i++) {
+            sums[bucket(monthIndex(epochDay(epochMillis[i])) - base, sums.length, epochMillis[i])] += amounts[i];
+        }
+        return sums;
+    }
+
+    /**
+     * Year in the high bits and month (1-12) in the low four bits.
+     */
+    private static long yearMonth(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_ERA);
+        long dayOfEra = z - era * DAYS_PER_ERA;
+        long yearOfEra = yearOfEra(dayOfEra);
+        long dayOfYear = dayOfYear(dayOfEra, yearOfEra);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 4 | month;
+    }
+
+    private static long dayOfEra(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        return z - Math.floorDiv(z, DAYS_PER_ERA) * DAYS_PER_ERA;
+    }
+
+    private static long yearOfEra(long dayOfEra) {
+        return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    }
+
+    private static long dayOfYear(long dayOfEra, long yearOfEra) {
+        return dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    }
+
+    private static int bucketCount(int fromYear, int toYear) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("fromYear must not be after toYear");
+        }
+        return (toYear - fromYear + 1) * 12;
+    }
+
+    private static int bucket(int index, int buckets, long millis) {
+        if (index < 0 || index >= buckets) {
+            throw new IllegalArgumentException("Timestamp " + millis + " is outside the requested years");
+        }
+        return index;
+    }
+
+    private static void checkMonth(int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month number");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.ahmet;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Fixed-bucket histogram: {@code bucketCount} equal-width buckets over
+ * {@code [lowerBound, upperBound)} plus underflow and overflow counters. Histograms with
+ * the same layout are merged with {@link #combine(Histogram)}.
+ */
+public class Histogram implements DoubleConsumer {
+    private final double lowerBound;
+    private final double upperBound;
+    private final double bucketWidth;
+    private final long[] counts;
+    private long underflow;
+    private long overflow;
+    private long count;
+    private double sum;
+
+    public Histogram(double lowerBound, double upperBound, int bucketCount) {
+        if (!(upperBound > lowerBound)) {
+            throw new IllegalArgumentException("Upper bound must be greater than lower bound");
+        }
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("Bucket count must be positive");
+        }
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.bucketWidth = (upperBound - lowerBound) / bucketCount;
+        this.counts = new long[bucketCount];
+    }
+
+    public static <T> Collector<T, ?, Histogram> toHistogram(double lowerBound, double upperBound, int bucketCount,
+                                                             ToDoubleFunction<? super T> value) {
+        return Collector.of(() -> new Histogram(lowerBound, upperBound, bucketCount),
+                (histogram, element) -> histogram.accept(value.applyAsDouble(element)),
+                Histogram::combine);
+    }
+
+    @Override
+    public void accept(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Value must be a number: " + value);
+        }
+        if (value < lowerBound) {
+            underflow++;
+        } else if (value >= upperBound) {
+            overflow++;
+        } else {
+            counts[Math.min(counts.length - 1, (int) ((value - lowerBound) / bucketWidth))]++;
+        }
+        count++;
+        sum += value;
+    }
+
+    public void acceptAll(DoubleColumn values) {
+        double[] array = values.array();
+        for (int i = values.offset(), end = values.offset() + values.size(); i < end; i++) {
+            accept(array[i]);
+        }
+    }
+
+    public Histogram combine(Histogram other) {
+        if (Double.compare(lowerBound, other.lowerBound) != 0 || Double.compare(upperBound, other.upperBound) != 0
+                || counts.length != other.counts.length) {
+            throw new IllegalArgumentException("Cannot combine histograms with different buckets");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        underflow += other.underflow;
+        overflow += other.overflow;
+        count += other.count;
+        sum += other.sum;
+        return this;
+    }
+
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    public double getBucketLowerBound(int bucket) {
+        return lowerBound + bucket * bucketWidth;
+    }
+
+    public double getBucketUpperBound(int bucket) {
+        return bucket == counts.length - 1 ? upperBound : lowerBound + (bucket + 1) * bucketWidth;
+    }
+
+    public long getUnderflowCount() {
+        return underflow;
+    }
+
+    public long getOverflowCount() {
+        return overflow;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+}
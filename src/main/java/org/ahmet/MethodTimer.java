@@ -0,0 +1,163 @@
+package org.ahmet;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Call count, error count, latency histogram and allocated bytes for one instrumented
+ * method. Call sites wrap the method body, which runs directly while the timer's group is
+ * disabled and is otherwise timed, with a {@link RuntimeException} counted as an error:
+ * <pre>{@code
+ * return timer.callDouble(() -> doWork());
+ * }</pre>
+ */
+public class MethodTimer implements MethodTimerMXBean {
+    private final MetricGroup group;
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    MethodTimer(MetricGroup group, String name) {
+        this.group = group;
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getGroup() {
+        return group.name();
+    }
+
+    public MetricGroup getMetricGroup() {
+        return group;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return group.isEnabled();
+    }
+
+    public <R> R call(Supplier<R> body) {
+        if (!isEnabled()) {
+            return body.get();
+        }
+        long start = start();
+        long allocated = Metrics.threadAllocatedBytes();
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            error();
+            throw e;
+        } finally {
+            stop(start, allocated);
+        }
+    }
+
+    public double callDouble(DoubleSupplier body) {
+        if (!isEnabled()) {
+            return body.getAsDouble();
+        }
+        long start = start();
+        long allocated = Metrics.threadAllocatedBytes();
+        try {
+            return body.getAsDouble();
+        } catch (RuntimeException e) {
+            error();
+            throw e;
+        } finally {
+            stop(start, allocated);
+        }
+    }
+
+    public void run(Runnable body) {
+        if (!isEnabled()) {
+            body.run();
+            return;
+        }
+        long start = start();
+        long allocated = Metrics.threadAllocatedBytes();
+        try {
+            body.run();
+        } catch (RuntimeException e) {
+            error();
+            throw e;
+        } finally {
+            stop(start, allocated);
+        }
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records one call that started at {@code startNanos}; {@code startAllocatedBytes} is
+     * the value of {@link Metrics#threadAllocatedBytes()} at the start, or {@code -1} to
+     * skip allocation tracking.
+     */
+    public void stop(long startNanos, long startAllocatedBytes) {
+        latency.record(Math.max(0, System.nanoTime() - startNanos));
+        if (startAllocatedBytes >= 0) {
+            long allocated = Metrics.threadAllocatedBytes();
+            if (allocated >= startAllocatedBytes) {
+                allocatedBytes.add(allocated - startAllocatedBytes);
+            }
+        }
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latency.getMean();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latency.getPercentile(50);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latency.getPercentile(99);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.getMax();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        errors.reset();
+        allocatedBytes.reset();
+    }
+}
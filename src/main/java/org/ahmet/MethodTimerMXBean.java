@@ -0,0 +1,28 @@
+package org.ahmet;
+
+/**
+ * JMX view of a {@link MethodTimer}, registered by {@link MetricsExporter#registerMBeans()}.
+ */
+public interface MethodTimerMXBean {
+    String getName();
+
+    String getGroup();
+
+    boolean isEnabled();
+
+    long getCount();
+
+    long getErrors();
+
+    double getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getMaxNanos();
+
+    long getAllocatedBytes();
+
+    void reset();
+}
@@ -0,0 +1,31 @@
+package org.ahmet;
+
+/**
+ * Groups of instrumented methods that are switched on and off together. All groups start
+ * disabled unless listed in the {@code org.ahmet.metrics} system property, e.g.
+ * {@code -Dorg.ahmet.metrics=cart,account}; a disabled group costs one volatile read per
+ * call.
+ */
+public enum MetricGroup {
+    CART, ACCOUNT, TRANSACTION;
+
+    private volatile boolean enabled = isListed(name());
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private static boolean isListed(String name) {
+        String property = System.getProperty("org.ahmet.metrics", "");
+        for (String group : property.split(",")) {
+            if (group.trim().equalsIgnoreCase(name) || group.trim().equalsIgnoreCase("all")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package org.ahmet;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * The instrumented methods and their timers. Allocation is measured with the per-thread
+ * allocated-bytes counter of {@code com.sun.management.ThreadMXBean} where the JVM
+ * provides it; the bean is looked up and switched on the first time an enabled group
+ * asks for it, never on the disabled path.
+ */
+public class Metrics {
+    public static final MethodTimer CART_TOTAL_WITH_DISCOUNT_AND_TAX =
+            new MethodTimer(MetricGroup.CART, "ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax");
+    public static final MethodTimer ACCOUNT_TRANSFER =
+            new MethodTimer(MetricGroup.ACCOUNT, "Account.transferFunds");
+    public static final MethodTimer TRANSACTION_PROCESS =
+            new MethodTimer(MetricGroup.TRANSACTION, "Transaction.process");
+
+    private static final List<MethodTimer> TIMERS =
+            List.of(CART_TOTAL_WITH_DISCOUNT_AND_TAX, ACCOUNT_TRANSFER, TRANSACTION_PROCESS);
+
+    private Metrics() {
+    }
+
+    public static List<MethodTimer> timers() {
+        return TIMERS;
+    }
+
+    public static void enable(MetricGroup... groups) {
+        for (MetricGroup group : groups) {
+            group.setEnabled(true);
+        }
+    }
+
+    public static void disable(MetricGroup... groups) {
+        for (MetricGroup group : groups) {
+            group.setEnabled(false);
+        }
+    }
+
+    public static void reset() {
+        for (MethodTimer timer : TIMERS) {
+            timer.reset();
+        }
+    }
+
+    public static boolean isAllocationTrackingSupported() {
+        return AllocationTracking.THREADS != null;
+    }
+
+    /**
+     * Bytes allocated so far by the current thread, or {@code -1} when the JVM cannot tell.
+     */
+    public static long threadAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = AllocationTracking.THREADS;
+        return threads == null ? -1 : threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private static class AllocationTracking {
+        static final com.sun.management.ThreadMXBean THREADS = allocationTrackingBean();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationTrackingBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+                if (threads.isThreadAllocatedMemorySupported()) {
+                    threads.setThreadAllocatedMemoryEnabled(true);
+                    return threads;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // jdk.management is not available; allocation tracking stays off.
+        }
+        return null;
+    }
+}
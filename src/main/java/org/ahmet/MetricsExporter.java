@@ -0,0 +1,133 @@
+package org.ahmet;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Publishes {@link Metrics} snapshots. {@link #export()} writes every timer as
+ * {@code name.field=value} lines to a file, replacing it atomically so readers never see
+ * a partial snapshot; {@link #start(long, TimeUnit)} repeats that on a daemon thread.
+ * {@link #registerMBeans()} exposes the same timers over JMX under
+ * {@code org.ahmet:type=Metrics}.
+ */
+public class MetricsExporter implements AutoCloseable {
+    private final Path file;
+    private ScheduledExecutorService scheduler;
+    private volatile IOException lastError;
+
+    public MetricsExporter(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void export() throws IOException {
+        StringBuilder snapshot = new StringBuilder();
+        snapshot.append("# metrics snapshot ").append(Instant.now()).append('\n');
+        for (MethodTimer timer : Metrics.timers()) {
+            String name = timer.getName();
+            snapshot.append(name).append(".group=").append(timer.getGroup()).append('\n');
+            snapshot.append(name).append(".enabled=").append(timer.isEnabled()).append('\n');
+            snapshot.append(name).append(".count=").append(timer.getCount()).append('\n');
+            snapshot.append(name).append(".errors=").append(timer.getErrors()).append('\n');
+            snapshot.append(name).append(".meanNanos=").append(timer.getMeanNanos()).append('\n');
+            snapshot.append(name).append(".p50Nanos=").append(timer.getP50Nanos()).append('\n');
+            snapshot.append(name).append(".p99Nanos=").append(timer.getP99Nanos()).append('\n');
+            snapshot.append(name).append(".maxNanos=").append(timer.getMaxNanos()).append('\n');
+            snapshot.append(name).append(".allocatedBytes=").append(timer.getAllocatedBytes()).append('\n');
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, snapshot.toString().getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public synchronized void start(long period, TimeUnit unit) {
+        if (scheduler != null) {
+            throw new IllegalStateException("Exporter already started");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                export();
+                lastError = null;
+            } catch (IOException e) {
+                lastError = e;
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * The failure of the most recent scheduled export, or {@code null} if it succeeded.
+     */
+    public IOException getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public static void registerMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (MethodTimer timer : Metrics.timers()) {
+                ObjectName name = objectName(timer);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(timer, name);
+                }
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register metrics MBeans", e);
+        }
+    }
+
+    public static void unregisterMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (MethodTimer timer : Metrics.timers()) {
+                ObjectName name = objectName(timer);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister metrics MBeans", e);
+        }
+    }
+
+    public static ObjectName objectName(MethodTimer timer) throws JMException {
+        return new ObjectName("org.ahmet:type=Metrics,group=" + timer.getGroup() + ",name=" + timer.getName());
+    }
+}
@@ -0,0 +1,185 @@
+package org.ahmet;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * Immutable fixed-point amount: a long count of units at a given decimal scale (e.g.
+ * cents at scale 2). Arithmetic between amounts of the same scale is exact; multiplying
+ * by a rate rounds to the nearest unit once, at the end. The static {@code *Units} helpers do the
+ * same maths on raw longs for loops that must not allocate.
+ */
+public final class Money implements Comparable<Money> {
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private final long units;
+    private final int scale;
+
+    private Money(long units, int scale) {
+        this.units = units;
+        this.scale = scale;
+    }
+
+    public static Money ofUnits(long units, int scale) {
+        checkScale(scale);
+        return new Money(units, scale);
+    }
+
+    public static Money of(double amount, int scale) {
+        checkScale(scale);
+        return new Money(roundExact(amount * POWERS_OF_TEN[scale]), scale);
+    }
+
+    public static Money of(double amount, Currency currency) {
+        return of(amount, Math.max(0, currency.getDefaultFractionDigits()));
+    }
+
+    public static Money of(BigDecimal amount, int scale) {
+        checkScale(scale);
+        return new Money(amount.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact(), scale);
+    }
+
+    public static Money zero(int scale) {
+        return ofUnits(0, scale);
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public boolean isNegative() {
+        return units < 0;
+    }
+
+    public Money plus(Money other) {
+        checkSameScale(other);
+        return new Money(Math.addExact(units, other.units), scale);
+    }
+
+    public Money minus(Money other) {
+        checkSameScale(other);
+        return new Money(Math.subtractExact(units, other.units), scale);
+    }
+
+    public Money multiply(long factor) {
+        return new Money(Math.multiplyExact(units, factor), scale);
+    }
+
+    public Money multiply(double factor) {
+        return new Money(multiplyUnits(units, factor), scale);
+    }
+
+    public Money percentage(double percent) {
+        return new Money(percentageUnits(units, percent), scale);
+    }
+
+    /**
+     * Adds {@code percent}% of this amount, the Money form of {@code Account.applyInterest}
+     * and {@code Employee.giveRaise}.
+     */
+    public Money applyPercentage(double percent) {
+        return new Money(Math.addExact(units, percentageUnits(units, percent)), scale);
+    }
+
+    public Money rescale(int newScale) {
+        return new Money(rescaleUnits(units, scale, newScale), newScale);
+    }
+
+    public double toDouble() {
+        return (double) units / POWERS_OF_TEN[scale];
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, scale);
+    }
+
+    public static long addUnits(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long multiplyUnits(long units, double factor) {
+        return roundExact(units * factor);
+    }
+
+    public static long percentageUnits(long units, double percent) {
+        return roundExact(units * percent / 100);
+    }
+
+    public static long rescaleUnits(long units, int fromScale, int toScale) {
+        checkScale(fromScale);
+        checkScale(toScale);
+        if (toScale >= fromScale) {
+            return Math.multiplyExact(units, POWERS_OF_TEN[toScale - fromScale]);
+        }
+        long divisor = POWERS_OF_TEN[fromScale - toScale];
+        long quotient = units / divisor;
+        long remainder = units % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(units);
+        }
+        return quotient;
+    }
+
+    static long powerOfTen(int scale) {
+        checkScale(scale);
+        return POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * Rounds to the nearest long with halves rounded away from zero, like
+     * {@link RoundingMode#HALF_UP}, and throws instead of saturating at the long range.
+     */
+    static long roundExact(double value) {
+        if (!(value >= -0x1p63 && value < 0x1p63)) {
+            throw new ArithmeticException("Amount out of range: " + value);
+        }
+        if (value == -0x1p63) {
+            return Long.MIN_VALUE;
+        }
+        long magnitude = Math.round(Math.abs(value));
+        return value < 0 ? -magnitude : magnitude;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        checkSameScale(other);
+        return Long.compare(units, other.units);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money)) return false;
+        Money other = (Money) o;
+        return units == other.units && scale == other.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(units) + scale;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private void checkSameScale(Money other) {
+        if (scale != other.scale) {
+            throw new IllegalArgumentException("Scale mismatch: " + scale + " vs " + other.scale);
+        }
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + (POWERS_OF_TEN.length - 1));
+        }
+    }
+}
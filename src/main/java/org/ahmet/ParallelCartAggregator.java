@@ -0,0 +1,167 @@
+package org.ahmet;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join versions of the {@link ShoppingCartUtils} total and filter operations for
+ * very large price lists. Totals use the same blocked compensated summation as
+ * {@link ShoppingCartUtils#calculateCompensatedTotalPrice(DoubleColumn)}, so parallel
+ * and sequential results are identical for any pool or threshold.
+ */
+public class ParallelCartAggregator {
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelCartAggregator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelCartAggregator(ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public double calculateTotalPrice(List<Double> prices) {
+        return calculateTotalPrice(DoubleColumn.from(prices));
+    }
+
+    public double calculateTotalPrice(DoubleColumn prices) {
+        int length = prices.size();
+        if (length <= threshold) {
+            return CompensatedSum.sum(prices.array(), prices.offset(), length);
+        }
+        int blocks = CompensatedSum.blockCount(length);
+        double[] sums = new double[blocks];
+        double[] compensations = new double[blocks];
+        int blocksPerTask = Math.max(1, threshold / CompensatedSum.BLOCK_SIZE);
+        pool.invoke(new SumTask(prices.array(), prices.offset(), length, 0, blocks, blocksPerTask, sums, compensations));
+        return CompensatedSum.combine(sums, compensations);
+    }
+
+    public List<Double> filterItemsByPrice(List<Double> prices, double priceThreshold) {
+        return filterItemsByPrice(DoubleColumn.from(prices), priceThreshold).toList();
+    }
+
+    public DoubleColumn filterItemsByPrice(DoubleColumn prices, double priceThreshold) {
+        if (prices.size() <= threshold) {
+            return ShoppingCartUtils.filterItemsByPrice(prices, priceThreshold);
+        }
+        int length = prices.size();
+        int leaves = (int) (((long) length + threshold - 1) / threshold);
+        int[] offsets = new int[leaves + 1];
+        pool.invoke(new FilterTask(prices.array(), prices.offset(), length, threshold, priceThreshold, 0, leaves, offsets, null));
+        for (int leaf = 0; leaf < leaves; leaf++) {
+            offsets[leaf + 1] += offsets[leaf];
+        }
+        double[] result = new double[offsets[leaves]];
+        pool.invoke(new FilterTask(prices.array(), prices.offset(), length, threshold, priceThreshold, 0, leaves, offsets, result));
+        return DoubleColumn.wrap(result);
+    }
+
+    private static class SumTask extends RecursiveAction {
+        private final double[] values;
+        private final int offset;
+        private final int length;
+        private final int fromBlock;
+        private final int toBlock;
+        private final int blocksPerTask;
+        private final double[] sums;
+        private final double[] compensations;
+
+        SumTask(double[] values, int offset, int length, int fromBlock, int toBlock, int blocksPerTask, double[] sums, double[] compensations) {
+            this.values = values;
+            this.offset = offset;
+            this.length = length;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+            this.blocksPerTask = blocksPerTask;
+            this.sums = sums;
+            this.compensations = compensations;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBlock - fromBlock <= blocksPerTask) {
+                CompensatedSum.sumBlocks(values, offset, length, fromBlock, toBlock, sums, compensations);
+                return;
+            }
+            int mid = (fromBlock + toBlock) >>> 1;
+            invokeAll(new SumTask(values, offset, length, fromBlock, mid, blocksPerTask, sums, compensations),
+                    new SumTask(values, offset, length, mid, toBlock, blocksPerTask, sums, compensations));
+        }
+    }
+
+    /**
+     * Filters fixed leaves of {@code leafSize} prices. Without an output array each leaf
+     * stores its match count at {@code offsets[leaf + 1]}; once those counts have been
+     * turned into prefix offsets, a second pass copies each leaf's matches into
+     * {@code output} starting at {@code offsets[leaf]}.
+     */
+    private static class FilterTask extends RecursiveAction {
+        private final double[] values;
+        private final int offset;
+        private final int length;
+        private final int leafSize;
+        private final double priceThreshold;
+        private final int fromLeaf;
+        private final int toLeaf;
+        private final int[] offsets;
+        private final double[] output;
+
+        FilterTask(double[] values, int offset, int length, int leafSize, double priceThreshold,
+                   int fromLeaf, int toLeaf, int[] offsets, double[] output) {
+            this.values = values;
+            this.offset = offset;
+            this.length = length;
+            this.leafSize = leafSize;
+            this.priceThreshold = priceThreshold;
+            this.fromLeaf = fromLeaf;
+            this.toLeaf = toLeaf;
+            this.offsets = offsets;
+            this.output = output;
+        }
+
+        @Override
+        protected void compute() {
+            if (toLeaf - fromLeaf == 1) {
+                int from = offset + fromLeaf * leafSize;
+                int to = offset + (int) Math.min(length, (long) toLeaf * leafSize);
+                if (output == null) {
+                    int count = 0;
+                    for (int i = from; i < to; i++) {
+                        if (values[i] > priceThreshold) {
+                            count++;
+                        }
+                    }
+                    offsets[toLeaf] = count;
+                } else {
+                    int position = offsets[fromLeaf];
+                    for (int i = from; i < to; i++) {
+                        if (values[i] > priceThreshold) {
+                            output[position++] = values[i];
+                        }
+                    }
+                }
+                return;
+            }
+            int mid = (fromLeaf + toLeaf) >>> 1;
+            invokeAll(new FilterTask(values, offset, length, leafSize, priceThreshold, fromLeaf, mid, offsets, output),
+                    new FilterTask(values, offset, length, leafSize, priceThreshold, mid, toLeaf, offsets, output));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.ahmet;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar payroll: names, ages and monthly salaries are held in parallel arrays and
+ * raises, promotions and annual aggregates run as bulk passes over fixed-size chunks in
+ * parallel. The per-row maths is the same as {@link Employee#giveRaise(double)},
+ * {@link Employee#promote(double)} and {@link Employee#calculateAnnualSalary()}.
+ */
+public class PayrollEngine {
+    static final int CHUNK_SIZE = 16_384;
+
+    private String[] names;
+    private int[] ages;
+    private double[] salaries;
+    private int size;
+
+    public PayrollEngine() {
+        this(16);
+    }
+
+    public PayrollEngine(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.names = new String[initialCapacity];
+        this.ages = new int[initialCapacity];
+        this.salaries = new double[initialCapacity];
+    }
+
+    public static PayrollEngine from(Collection<Employee> employees) {
+        PayrollEngine engine = new PayrollEngine(employees.size());
+        for (Employee employee : employees) {
+            engine.add(employee);
+        }
+        return engine;
+    }
+
+    public int add(Employee employee) {
+        return add(employee.getName(), employee.getAge(), employee.getSalary());
+    }
+
+    public int add(String name, int age, double salary) {
+        if (age < 0) {
+            throw new IllegalArgumentException("Age must not be negative");
+        }
+        if (size == salaries.length) {
+            int newCapacity = size + (size >> 1) + 1;
+            names = Arrays.copyOf(names, newCapacity);
+            ages = Arrays.copyOf(ages, newCapacity);
+            salaries = Arrays.copyOf(salaries, newCapacity);
+        }
+        names[size] = name;
+        ages[size] = age;
+        salaries[size] = salary;
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int row) {
+        checkRow(row);
+        return names[row];
+    }
+
+    public int getAge(int row) {
+        checkRow(row);
+        return ages[row];
+    }
+
+    public double getSalary(int row) {
+        checkRow(row);
+        return salaries[row];
+    }
+
+    public Employee toEmployee(int row) {
+        return new Employee(getName(row), getAge(row), getSalary(row));
+    }
+
+    public void giveRaise(double percentage) {
+        giveRaise(age -> true, percentage);
+    }
+
+    public void giveRaise(IntPredicate agePredicate, double percentage) {
+        forEachChunk((from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (agePredicate.test(ages[i])) {
+                    salaries[i] += salaries[i] * percentage / 100;
+                }
+            }
+        });
+    }
+
+    public void promote(IntPredicate agePredicate, double increaseAmount) {
+        forEachChunk((from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (agePredicate.test(ages[i])) {
+                    salaries[i] += increaseAmount;
+                }
+            }
+        });
+    }
+
+    public double calculateTotalAnnualSalary() {
+        return summarize(Integer.MAX_VALUE).getTotalAnnualSalary();
+    }
+
+    /**
+     * Computes the total annual salary overall and per age band ({@code age / bandWidth})
+     * in a single parallel scan.
+     */
+    public PayrollSummary summarize(int bandWidth) {
+        if (bandWidth <= 0) {
+            throw new IllegalArgumentException("Band width must be positive");
+        }
+        int bands = bandWidth == Integer.MAX_VALUE ? 1 : maxAge() / bandWidth + 1;
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    PayrollSummary partial = new PayrollSummary(bandWidth, bands);
+                    for (int i = chunk * CHUNK_SIZE, end = Math.min(size, i + CHUNK_SIZE); i < end; i++) {
+                        partial.accept(ages[i], salaries[i] * 12);
+                    }
+                    return partial;
+                })
+                .reduce(PayrollSummary::combine)
+                .orElseGet(() -> new PayrollSummary(bandWidth, bands));
+    }
+
+    /**
+     * Annual salary at each requested percentile (0-100) using the nearest-rank method.
+     */
+    public double[] annualSalaryPercentiles(double... percentiles) {
+        double[] sorted = Arrays.copyOf(salaries, size);
+        Arrays.parallelSort(sorted);
+        double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            double percentile = percentiles[i];
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            if (size == 0) {
+                continue;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * size);
+            result[i] = sorted[Math.max(0, rank - 1)] * 12;
+        }
+        return result;
+    }
+
+    private int maxAge() {
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, ages[i]);
+        }
+        return max;
+    }
+
+    private interface ChunkAction {
+        void apply(int from, int to);
+    }
+
+    private void forEachChunk(ChunkAction action) {
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel()
+                .forEach(chunk -> action.apply(chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE)));
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+}
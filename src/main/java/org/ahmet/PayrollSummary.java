@@ -0,0 +1,70 @@
+package org.ahmet;
+
+/**
+ * Annual salary totals overall and per age band, as produced by
+ * {@link PayrollEngine#summarize(int)}.
+ */
+public class PayrollSummary {
+    private final int bandWidth;
+    private final double[] bandTotals;
+    private final long[] bandCounts;
+    private double totalAnnualSalary;
+    private long count;
+
+    PayrollSummary(int bandWidth, int bands) {
+        this.bandWidth = bandWidth;
+        this.bandTotals = new double[bands];
+        this.bandCounts = new long[bands];
+    }
+
+    void accept(int age, double annualSalary) {
+        int band = bandWidth == Integer.MAX_VALUE ? 0 : age / bandWidth;
+        bandTotals[band] += annualSalary;
+        bandCounts[band]++;
+        totalAnnualSalary += annualSalary;
+        count++;
+    }
+
+    PayrollSummary combine(PayrollSummary other) {
+        for (int i = 0; i < bandTotals.length; i++) {
+            bandTotals[i] += other.bandTotals[i];
+            bandCounts[i] += other.bandCounts[i];
+        }
+        totalAnnualSalary += other.totalAnnualSalary;
+        count += other.count;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getTotalAnnualSalary() {
+        return totalAnnualSalary;
+    }
+
+    public double getAverageAnnualSalary() {
+        return count == 0 ? 0.0 : totalAnnualSalary / count;
+    }
+
+    public int getBandWidth() {
+        return bandWidth;
+    }
+
+    public int getBandCount() {
+        return bandTotals.length;
+    }
+
+    public double getBandTotal(int band) {
+        return bandTotals[band];
+    }
+
+    public long getBandEmployees(int band) {
+        return bandCounts[band];
+    }
+
+    public double getTotalForAge(int age) {
+        int band = bandWidth == Integer.MAX_VALUE ? 0 : age / bandWidth;
+        return age >= 0 && band < bandTotals.length ? bandTotals[band] : 0.0;
+    }
+}
@@ -0,0 +1,112 @@
+package org.ahmet;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorted, immutable index over a catalogue price list for repeated threshold and range
+ * queries. Building it sorts a primitive copy once; every query is a binary search and
+ * results are returned as read-only {@link DoubleColumn} views over the sorted array, so
+ * no query allocates a copy of the matching prices. Views are in ascending price order.
+ * Comparisons follow the {@code >} and {@code <=} operators used by
+ * {@link ShoppingCartUtils}: {@code -0.0} is stored as {@code 0.0}, NaN prices never match
+ * a threshold or range query, and a NaN threshold or bound matches nothing.
+ */
+public class PriceIndex {
+    private final double[] sorted;
+    private final int comparable;
+    private final DoubleColumn column;
+
+    public PriceIndex(List<Double> prices) {
+        this(DoubleColumn.from(prices));
+    }
+
+    public PriceIndex(DoubleColumn prices) {
+        this.sorted = prices.toArray();
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] += 0.0;
+        }
+        Arrays.sort(sorted);
+        int nonNaN = sorted.length;
+        while (nonNaN > 0 && Double.isNaN(sorted[nonNaN - 1])) {
+            nonNaN--;
+        }
+        this.comparable = nonNaN;
+        this.column = DoubleColumn.wrap(sorted);
+    }
+
+    public int size() {
+        return sorted.length;
+    }
+
+    public double findMostExpensiveItem() {
+        return sorted.length == 0 ? 0.0 : sorted[sorted.length - 1];
+    }
+
+    public double findCheapestItem() {
+        return sorted.length == 0 ? 0.0 : sorted[0];
+    }
+
+    public int countAbove(double threshold) {
+        return comparable - upperBound(threshold);
+    }
+
+    public DoubleColumn filterItemsByPrice(double threshold) {
+        return column.view(upperBound(threshold), comparable);
+    }
+
+    /**
+     * Counts prices in the inclusive range {@code [min, max]}.
+     */
+    public int countInRange(double min, double max) {
+        if (!(min <= max)) {
+            return 0;
+        }
+        return upperBound(max) - lowerBound(min);
+    }
+
+    public DoubleColumn itemsInRange(double min, double max) {
+        if (!(min <= max)) {
+            return column.view(0, 0);
+        }
+        return column.view(lowerBound(min), upperBound(max));
+    }
+
+    public DoubleColumn topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        return column.view(Math.max(0, comparable - k), comparable);
+    }
+
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = comparable;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(double value) {
+        if (Double.isNaN(value)) {
+            return comparable;
+        }
+        int low = 0;
+        int high = comparable;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,26 @@
+package org.ahmet;
+
+/**
+ * Sum, max and threshold-filter kernels behind the {@link DoubleColumn} overloads of
+ * {@link ShoppingCartUtils}. {@link #vectorized()} returns a SIMD implementation built on
+ * {@code jdk.incubator.vector} when that module is resolved at runtime
+ * ({@code --add-modules jdk.incubator.vector}) and falls back to {@link #scalar()} otherwise.
+ */
+public interface PriceKernels {
+
+    double sum(DoubleColumn prices);
+
+    double max(DoubleColumn prices);
+
+    DoubleColumn filterAbove(DoubleColumn prices, double threshold);
+
+    boolean isVectorized();
+
+    static PriceKernels scalar() {
+        return ScalarPriceKernels.INSTANCE;
+    }
+
+    static PriceKernels vectorized() {
+        return PriceKernelsLoader.VECTORIZED;
+    }
+}
@@ -0,0 +1,21 @@
+package org.ahmet;
+
+final class PriceKernelsLoader {
+    static final PriceKernels VECTORIZED = loadVectorized();
+
+    private PriceKernelsLoader() {
+    }
+
+    private static PriceKernels loadVectorized() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return ScalarPriceKernels.INSTANCE;
+        }
+        try {
+            return (PriceKernels) Class.forName("org.ahmet.VectorPriceKernels")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return ScalarPriceKernels.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.ahmet;
+
+import java.util.List;
+
+/**
+ * Applies a {@link PricingTable} to carts. The table is swapped atomically by
+ * {@link #reload(PricingTable)}; readers only do a volatile read, so a reload never blocks
+ * pricing and each call sees either the old or the new table, never a mix.
+ */
+public class PricingEngine {
+    private volatile PricingTable table;
+
+    public PricingEngine(PricingTable table) {
+        this.table = table;
+    }
+
+    public PricingTable getTable() {
+        return table;
+    }
+
+    public void reload(PricingTable newTable) {
+        this.table = newTable;
+    }
+
+    public double multiplier(DiscountType discountType, String region, TaxClass taxClass) {
+        return table.multiplier(discountType, region, taxClass);
+    }
+
+    public double calculateTotalPrice(List<Double> prices, DiscountType discountType, String region, TaxClass taxClass) {
+        return ShoppingCartUtils.calculateTotalPrice(prices) * multiplier(discountType, region, taxClass);
+    }
+
+    public double calculateTotalPrice(DoubleColumn prices, DiscountType discountType, String region, TaxClass taxClass) {
+        return ShoppingCartUtils.calculateTotalPrice(prices) * multiplier(discountType, region, taxClass);
+    }
+
+    public double[] calculateTotalPrices(List<DoubleColumn> carts, DiscountType discountType, String region, TaxClass taxClass) {
+        double multiplier = multiplier(discountType, region, taxClass);
+        double[] totals = new double[carts.size()];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = ShoppingCartUtils.calculateTotalPrice(carts.get(i)) * multiplier;
+        }
+        return totals;
+    }
+
+    public double[] calculateTotalPrices(List<DoubleColumn> carts, DiscountType[] discountTypes, String[] regions, TaxClass[] taxClasses) {
+        if (discountTypes.length != carts.size() || regions.length != carts.size() || taxClasses.length != carts.size()) {
+            throw new IllegalArgumentException("Policy keys must match the number of carts");
+        }
+        PricingTable snapshot = table;
+        double[] totals = new double[carts.size()];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = ShoppingCartUtils.calculateTotalPrice(carts.get(i)) * snapshot.multiplier(discountTypes[i], regions[i], taxClasses[i]);
+        }
+        return totals;
+    }
+}
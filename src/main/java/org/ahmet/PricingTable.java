@@ -0,0 +1,68 @@
+package org.ahmet;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable table of combined price multipliers {@code (1 - discount) * (1 + tax)} for
+ * every {@link DiscountType}, region and {@link TaxClass}, computed once when the table is
+ * built so pricing a cart is a single lookup and multiply.
+ */
+public class PricingTable {
+    private final Map<String, EnumMap<DiscountType, double[]>> multipliers;
+    private final EnumMap<DiscountType, Double> discountRates;
+
+    public PricingTable(Map<DiscountType, Double> discountRates, Map<String, Map<TaxClass, Double>> taxRates) {
+        this.discountRates = new EnumMap<>(DiscountType.class);
+        for (DiscountType discountType : DiscountType.values()) {
+            Double rate = discountRates.get(discountType);
+            if (rate == null) {
+                throw new IllegalArgumentException("Missing discount rate for " + discountType);
+            }
+            this.discountRates.put(discountType, rate);
+        }
+        Map<String, EnumMap<DiscountType, double[]>> table = new HashMap<>();
+        for (Map.Entry<String, Map<TaxClass, Double>> region : taxRates.entrySet()) {
+            EnumMap<DiscountType, double[]> byDiscount = new EnumMap<>(DiscountType.class);
+            for (DiscountType discountType : DiscountType.values()) {
+                double[] byTaxClass = new double[TaxClass.values().length];
+                for (TaxClass taxClass : TaxClass.values()) {
+                    Double tax = region.getValue().get(taxClass);
+                    if (tax == null) {
+                        throw new IllegalArgumentException("Missing " + taxClass + " tax rate for region " + region.getKey());
+                    }
+                    byTaxClass[taxClass.ordinal()] = (1 - this.discountRates.get(discountType)) * (1 + tax);
+                }
+                byDiscount.put(discountType, byTaxClass);
+            }
+            table.put(region.getKey(), byDiscount);
+        }
+        this.multipliers = Collections.unmodifiableMap(table);
+    }
+
+    public static PricingTable withDefaultDiscounts(Map<String, Map<TaxClass, Double>> taxRates) {
+        Map<DiscountType, Double> discountRates = new EnumMap<>(DiscountType.class);
+        for (DiscountType discountType : DiscountType.values()) {
+            discountRates.put(discountType, ShoppingCartUtils.getDiscountRate(discountType));
+        }
+        return new PricingTable(discountRates, taxRates);
+    }
+
+    public double getDiscountRate(DiscountType discountType) {
+        return discountRates.get(discountType);
+    }
+
+    public boolean hasRegion(String region) {
+        return multipliers.containsKey(region);
+    }
+
+    public double multiplier(DiscountType discountType, String region, TaxClass taxClass) {
+        EnumMap<DiscountType, double[]> byDiscount = multipliers.get(region);
+        if (byDiscount == null) {
+            throw new IllegalArgumentException("Unknown region: " + region);
+        }
+        return byDiscount.get(discountType)[taxClass.ordinal()];
+    }
+}
@@ -26,6 +26,10 @@ public class Product {
         return quantity;
     }
 
+    public Money getPrice(int scale) {
+        return Money.of(price, scale);
+    }
+
     public boolean validate(Predicate<Product> validator) {
         return validator.test(this);
     }
@@ -0,0 +1,221 @@
+package org.ahmet;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Mergeable quantile sketch over finite non-negative values with a relative-error
+ * guarantee: a value is counted in logarithmic bucket {@code ceil(log_gamma(x))} with
+ * {@code gamma = (1 + a) / (1 - a)}, so a quantile is within a fraction {@code a} of the
+ * true value. Memory is bounded by {@code maxBuckets}; when the value range needs more
+ * buckets the lowest ones are folded together, keeping the upper quantiles accurate. The
+ * guarantee therefore only holds for quantiles whose value is at least
+ * {@code max / gamma^maxBuckets} (about {@code max / 6e17} with the defaults); quantiles
+ * that land in the folded lowest bucket are reported at that bucket's value and can be
+ * arbitrarily far above the true one.
+ * Sketches built over separate parts of the data, e.g. on different threads, are merged
+ * with {@link #combine(QuantileSketch)}.
+ */
+public class QuantileSketch implements DoubleConsumer {
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    public static final int DEFAULT_MAX_BUCKETS = 2048;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final double relativeAccuracy;
+    private final int maxBuckets;
+    private final double gamma;
+    private final double multiplier;
+    private final double minIndexableValue;
+    private long[] counts = new long[INITIAL_CAPACITY];
+    private int offset;
+    private int minIndex = 0;
+    private int maxIndex = -1;
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY, DEFAULT_MAX_BUCKETS);
+    }
+
+    public QuantileSketch(double relativeAccuracy) {
+        this(relativeAccuracy, DEFAULT_MAX_BUCKETS);
+    }
+
+    public QuantileSketch(double relativeAccuracy, int maxBuckets) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        if (maxBuckets <= 0) {
+            throw new IllegalArgumentException("Max buckets must be positive");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.maxBuckets = maxBuckets;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.multiplier = 1 / Math.log(gamma);
+        this.minIndexableValue = Double.MIN_NORMAL * gamma;
+    }
+
+    /**
+     * Collects {@code value} of every element into one sketch; parallel streams build a
+     * sketch per thread and merge them.
+     */
+    public static <T> Collector<T, ?, QuantileSketch> toSketch(double relativeAccuracy, ToDoubleFunction<? super T> value) {
+        return Collector.of(() -> new QuantileSketch(relativeAccuracy),
+                (sketch, element) -> sketch.accept(value.applyAsDouble(element)),
+                QuantileSketch::combine);
+    }
+
+    @Override
+    public void accept(double value) {
+        if (!Double.isFinite(value) || value < 0) {
+            throw new IllegalArgumentException("Value must be a finite non-negative number: " + value);
+        }
+        if (value < minIndexableValue) {
+            zeroCount++;
+        } else {
+            add((int) Math.ceil(Math.log(value) * multiplier), 1);
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void acceptAll(DoubleColumn values) {
+        double[] array = values.array();
+        for (int i = values.offset(), end = values.offset() + values.size(); i < end; i++) {
+            accept(array[i]);
+        }
+    }
+
+    public QuantileSketch combine(QuantileSketch other) {
+        if (Double.compare(relativeAccuracy, other.relativeAccuracy) != 0) {
+            throw new IllegalArgumentException("Cannot combine sketches with different relative accuracy");
+        }
+        for (int index = other.minIndex; index <= other.maxIndex; index++) {
+            long bucket = other.counts[index - other.offset];
+            if (bucket != 0) {
+                add(index, bucket);
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Value at {@code quantile} (0-1), within the relative accuracy of the exact value at
+     * rank {@code floor(quantile * (count - 1))} of the sorted input.
+     */
+    public double getQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+        if (quantile == 1) {
+            return max;
+        }
+        long rank = (long) (quantile * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0.0;
+        }
+        for (int index = minIndex; index <= maxIndex; index++) {
+            seen += counts[index - offset];
+            if (rank < seen) {
+                double estimate = 2 * Math.pow(gamma, index) / (gamma + 1);
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return count == 0 ? 0.0 : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? 0.0 : max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    public int getBucketCount() {
+        return maxIndex < minIndex ? 0 : maxIndex - minIndex + 1;
+    }
+
+    private void add(int index, long n) {
+        if (maxIndex < minIndex) {
+            offset = index - counts.length / 2;
+            minIndex = index;
+            maxIndex = index;
+            counts[index - offset] += n;
+            return;
+        }
+        int newMin = Math.min(minIndex, index);
+        int newMax = Math.max(maxIndex, index);
+        long folded = 0;
+        if (newMax - newMin + 1 > maxBuckets) {
+            int floor = newMax - maxBuckets + 1;
+            for (int i = minIndex, end = Math.min(floor, maxIndex + 1); i < end; i++) {
+                folded += counts[i - offset];
+                counts[i - offset] = 0;
+            }
+            if (index < floor) {
+                folded += n;
+                n = 0;
+                index = floor;
+            }
+            newMin = floor;
+        }
+        ensureRange(newMin, newMax);
+        minIndex = newMin;
+        maxIndex = newMax;
+        counts[index - offset] += n;
+        counts[newMin - offset] += folded;
+    }
+
+    private void ensureRange(int newMin, int newMax) {
+        if (newMin >= offset && newMax < offset + counts.length) {
+            return;
+        }
+        int span = newMax - newMin + 1;
+        long[] resized = new long[Math.max(counts.length, span * 2)];
+        int newOffset = newMin - (resized.length - span) / 2;
+        for (int i = Math.max(minIndex, newMin), end = Math.min(maxIndex, newMax); i <= end; i++) {
+            resized[i - newOffset] = counts[i - offset];
+        }
+        counts = resized;
+        offset = newOffset;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch{count=" + count + ", min=" + getMin() + ", p50=" + getQuantile(0.5)
+                + ", p99=" + getQuantile(0.99) + ", max=" + getMax() + "}";
+    }
+}
@@ -0,0 +1,150 @@
+package org.ahmet;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Named validation rules for {@code validate(Predicate)} on {@link Product},
+ * {@link Customer} and {@link Transaction}. Numeric thresholds are declared on a
+ * {@link Field} so that {@link #compile()} can fold every threshold on the same field into
+ * one range check, or into a constant {@code false} when the bounds cannot be met:
+ * <pre>{@code
+ * RuleSet.Field<Transaction> amount = RuleSet.field("amount", Transaction::getAmount);
+ * CompiledRules<Transaction> rules = new RuleSet<Transaction>()
+ *         .require(amount.greaterThan(0))
+ *         .require(amount.atMost(10_000))
+ *         .require("known type", t -> "credit".equals(t.getType()) || "debit".equals(t.getType()))
+ *         .compile();
+ * transaction.validate(rules);
+ * }</pre>
+ */
+public class RuleSet<T> {
+    private final List<Rule<T>> rules = new ArrayList<>();
+
+    public static <T> Field<T> field(String name, ToDoubleFunction<T> extractor) {
+        return new Field<>(name, extractor);
+    }
+
+    public RuleSet<T> require(String name, Predicate<T> predicate) {
+        rules.add(new Rule<>(name, null, predicate, Double.NEGATIVE_INFINITY, true, Double.POSITIVE_INFINITY, true));
+        return this;
+    }
+
+    public RuleSet<T> require(Rule<T> rule) {
+        rules.add(rule);
+        return this;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    public CompiledRules<T> compile() {
+        Map<Field<T>, Rule<T>> ranges = new LinkedHashMap<>();
+        List<CompiledRules.CompiledRule<T>> predicates = new ArrayList<>();
+        for (Rule<T> rule : rules) {
+            if (rule.field == null) {
+                predicates.add(new CompiledRules.PredicateRule<>(rule.name, rule.predicate));
+            } else {
+                ranges.merge(rule.field, rule, Rule::intersect);
+            }
+        }
+        List<CompiledRules.CompiledRule<T>> compiled = new ArrayList<>();
+        for (Rule<T> range : ranges.values()) {
+            if (range.isEmpty()) {
+                return new CompiledRules<>(List.of(new CompiledRules.PredicateRule<>(range.name, value -> false)));
+            }
+            compiled.add(new CompiledRules.RangeRule<>(range.name, range.field.extractor,
+                    range.lower, range.lowerInclusive, range.upper, range.upperInclusive));
+        }
+        compiled.addAll(predicates);
+        return new CompiledRules<>(compiled);
+    }
+
+    public static final class Field<T> {
+        private final String name;
+        private final ToDoubleFunction<T> extractor;
+
+        private Field(String name, ToDoubleFunction<T> extractor) {
+            this.name = name;
+            this.extractor = extractor;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Rule<T> greaterThan(double threshold) {
+            return range(name + " > " + threshold, threshold, false, Double.POSITIVE_INFINITY, true);
+        }
+
+        public Rule<T> atLeast(double threshold) {
+            return range(name + " >= " + threshold, threshold, true, Double.POSITIVE_INFINITY, true);
+        }
+
+        public Rule<T> lessThan(double threshold) {
+            return range(name + " < " + threshold, Double.NEGATIVE_INFINITY, true, threshold, false);
+        }
+
+        public Rule<T> atMost(double threshold) {
+            return range(name + " <= " + threshold, Double.NEGATIVE_INFINITY, true, threshold, true);
+        }
+
+        public Rule<T> between(double lower, double upper) {
+            return range(lower + " <= " + name + " <= " + upper, lower, true, upper, true);
+        }
+
+        private Rule<T> range(String ruleName, double lower, boolean lowerInclusive, double upper, boolean upperInclusive) {
+            return new Rule<>(ruleName, this, null, lower, lowerInclusive, upper, upperInclusive);
+        }
+    }
+
+    public static final class Rule<T> {
+        private final String name;
+        private final Field<T> field;
+        private final Predicate<T> predicate;
+        private final double lower;
+        private final boolean lowerInclusive;
+        private final double upper;
+        private final boolean upperInclusive;
+
+        private Rule(String name, Field<T> field, Predicate<T> predicate,
+                     double lower, boolean lowerInclusive, double upper, boolean upperInclusive) {
+            this.name = name;
+            this.field = field;
+            this.predicate = predicate;
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        private Rule<T> intersect(Rule<T> other) {
+            double newLower = lower;
+            boolean newLowerInclusive = lowerInclusive;
+            if (other.lower > lower || (other.lower == lower && !other.lowerInclusive)) {
+                newLower = other.lower;
+                newLowerInclusive = other.lowerInclusive;
+            }
+            double newUpper = upper;
+            boolean newUpperInclusive = upperInclusive;
+            if (other.upper < upper || (other.upper == upper && !other.upperInclusive)) {
+                newUpper = other.upper;
+                newUpperInclusive = other.upperInclusive;
+            }
+            return new Rule<>(name + " && " + other.name, field, null, newLower, newLowerInclusive, newUpper, newUpperInclusive);
+        }
+
+        private boolean isEmpty() {
+            return lower > upper || (lower == upper && !(lowerInclusive && upperInclusive));
+        }
+    }
+}
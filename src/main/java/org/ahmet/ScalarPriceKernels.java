@@ -0,0 +1,25 @@
+package org.ahmet;
+
+class ScalarPriceKernels implements PriceKernels {
+    static final ScalarPriceKernels INSTANCE = new ScalarPriceKernels();
+
+    @Override
+    public double sum(DoubleColumn prices) {
+        return ShoppingCartUtils.calculateTotalPrice(prices);
+    }
+
+    @Override
+    public double max(DoubleColumn prices) {
+        return ShoppingCartUtils.findMostExpensiveItem(prices);
+    }
+
+    @Override
+    public DoubleColumn filterAbove(DoubleColumn prices, double threshold) {
+        return ShoppingCartUtils.filterItemsByPrice(prices, threshold);
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+}
@@ -53,7 +53,119 @@ public class ShoppingCartUtils {
     }
 
     public static double calculateTotalPriceWithDiscountAndTax(List<Double> prices, double discount, double tax) {
-        return calculateTotalPrice(prices) * (1 - discount) * (1 + tax);
+        return Metrics.CART_TOTAL_WITH_DISCOUNT_AND_TAX.callDouble(() -> calculateTotalPrice(prices) * (1 - discount) * (1 + tax));
+    }
+
+    public static double calculateAveragePrice(DoubleColumn prices) {
+        if (prices.isEmpty()) return 0.0;
+        return calculateTotalPrice(prices) / prices.size();
+    }
+
+    public static DoubleColumn filterItemsByPrice(DoubleColumn prices, double threshold) {
+        double[] values = prices.array();
+        DoubleColumn result = new DoubleColumn(prices.size());
+        for (int i = prices.offset(), end = i + prices.size(); i < end; i++) {
+            if (values[i] > threshold) {
+                result.add(values[i]);
+            }
+        }
+        return result;
+    }
+
+    public static long countItems(DoubleColumn prices) {
+        return prices.size();
+    }
+
+    public static double findMostExpensiveItem(DoubleColumn prices) {
+        if (prices.isEmpty()) return 0.0;
+        double[] values = prices.array();
+        int start = prices.offset();
+        double max = values[start];
+        for (int i = start + 1, end = start + prices.size(); i < end; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    public static double calculateTotalWeight(DoubleColumn weights) {
+        return calculateTotalPrice(weights);
+    }
+
+    public static double calculateTotalPrice(DoubleColumn prices) {
+        return CompensatedSum.sum(prices.array(), prices.offset(), prices.size());
+    }
+
+    public static double calculateCompensatedTotalPrice(List<Double> prices) {
+        return calculateCompensatedTotalPrice(DoubleColumn.from(prices));
+    }
+
+    public static double calculateCompensatedTotalPrice(DoubleColumn prices) {
+        return CompensatedSum.sum(prices.array(), prices.offset(), prices.size());
+    }
+
+    public static double calculateTotalPriceWithDiscount(DoubleColumn prices, double discount) {
+        return calculateTotalPrice(prices) * (1 - discount);
+    }
+
+    public static double calculateTotalPriceWithTax(DoubleColumn prices, double tax) {
+        return calculateTotalPrice(prices) * (1 + tax);
+    }
+
+    public static double calculateTotalPriceWithDiscountAndTax(DoubleColumn prices, double discount, double tax) {
+        return Metrics.CART_TOTAL_WITH_DISCOUNT_AND_TAX.callDouble(() -> calculateTotalPrice(prices) * (1 - discount) * (1 + tax));
+    }
+
+    public static CartSummary summarize(List<Double> prices, double discount, double tax) {
+        CartSummary summary = new CartSummary(discount, tax);
+        for (Double price : prices) {
+            summary.accept(price);
+        }
+        return summary;
+    }
+
+    public static CartSummary summarize(DoubleColumn prices, double discount, double tax) {
+        CartSummary summary = new CartSummary(discount, tax);
+        double[] values = prices.array();
+        for (int i = prices.offset(), end = i + prices.size(); i < end; i++) {
+            summary.accept(values[i]);
+        }
+        return summary;
+    }
+
+    public static Money calculateTotalPrice(Money[] prices, int scale) {
+        long total = 0;
+        for (Money price : prices) {
+            if (price.getScale() != scale) {
+                throw new IllegalArgumentException("Scale mismatch: " + scale + " vs " + price.getScale());
+            }
+            total = Money.addUnits(total, price.getUnits());
+        }
+        return Money.ofUnits(total, scale);
+    }
+
+    public static Money findMostExpensiveItem(Money[] prices, int scale) {
+        Money max = Money.zero(scale);
+        for (int i = 0; i < prices.length; i++) {
+            if (prices[i].getScale() != scale) {
+                throw new IllegalArgumentException("Scale mismatch: " + scale + " vs " + prices[i].getScale());
+            }
+            if (i == 0 || prices[i].compareTo(max) > 0) {
+                max = prices[i];
+            }
+        }
+        return max;
+    }
+
+    public static Money calculateTotalPriceWithDiscount(Money[] prices, int scale, double discount) {
+        return calculateTotalPrice(prices, scale).multiply(1 - discount);
+    }
+
+    public static Money calculateTotalPriceWithTax(Money[] prices, int scale, double tax) {
+        return calculateTotalPrice(prices, scale).multiply(1 + tax);
+    }
+
+    public static Money calculateTotalPriceWithDiscountAndTax(Money[] prices, int scale, double discount, double tax) {
+        return Metrics.CART_TOTAL_WITH_DISCOUNT_AND_TAX.call(() -> calculateTotalPrice(prices, scale).multiply((1 - discount) * (1 + tax)));
     }
 
     public static double getDiscountRate(DiscountType discountType) {
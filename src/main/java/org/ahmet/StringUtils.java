@@ -1,11 +1,249 @@
 package org.ahmet;
 
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+
 public class StringUtils {
     public static boolean isPalindrome(String str) {
-        return str.contentEquals(new StringBuilder(str).reverse());
+        return isPalindrome((CharSequence) str);
+    }
+
+    /**
+     * Two-pointer palindrome check by code point, so a surrogate pair counts as one
+     * character exactly as in {@link StringBuilder#reverse()}. Does not allocate.
+     */
+    public static boolean isPalindrome(CharSequence str) {
+        int i = 0;
+        int j = str.length() - 1;
+        while (i < j) {
+            char left = str.charAt(i);
+            char right = str.charAt(j);
+            if (left == right && !Character.isSurrogate(left)) {
+                i++;
+                j--;
+                continue;
+            }
+            int leftCodePoint = left;
+            int rightCodePoint = right;
+            int leftLength = 1;
+            int rightLength = 1;
+            if (Character.isHighSurrogate(left) && i + 1 < str.length() && Character.isLowSurrogate(str.charAt(i + 1))) {
+                leftCodePoint = Character.toCodePoint(left, str.charAt(i + 1));
+                leftLength = 2;
+            }
+            if (Character.isLowSurrogate(right) && j > 0 && Character.isHighSurrogate(str.charAt(j - 1))) {
+                rightCodePoint = Character.toCodePoint(str.charAt(j - 1), right);
+                rightLength = 2;
+            }
+            if (leftCodePoint != rightCodePoint) {
+                return false;
+            }
+            i += leftLength;
+            j -= rightLength;
+        }
+        return true;
+    }
+
+    public static boolean isPalindrome(char[] chars, int from, int to) {
+        if (from < 0 || to > chars.length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for length " + chars.length);
+        }
+        int i = from;
+        int j = to - 1;
+        while (i < j) {
+            char left = chars[i];
+            char right = chars[j];
+            if (left == right && !Character.isSurrogate(left)) {
+                i++;
+                j--;
+                continue;
+            }
+            int leftCodePoint = left;
+            int rightCodePoint = right;
+            int leftLength = 1;
+            int rightLength = 1;
+            if (Character.isHighSurrogate(left) && i + 1 < to && Character.isLowSurrogate(chars[i + 1])) {
+                leftCodePoint = Character.toCodePoint(left, chars[i + 1]);
+                leftLength = 2;
+            }
+            if (Character.isLowSurrogate(right) && j > from && Character.isHighSurrogate(chars[j - 1])) {
+                rightCodePoint = Character.toCodePoint(chars[j - 1], right);
+                rightLength = 2;
+            }
+            if (leftCodePoint != rightCodePoint) {
+                return false;
+            }
+            i += leftLength;
+            j -= rightLength;
+        }
+        return true;
+    }
+
+    /**
+     * Palindrome check by code point over the UTF-8 bytes between the buffer's position and
+     * limit. The buffer's position is not changed.
+     *
+     * @throws IllegalArgumentException if the bytes are not well-formed UTF-8
+     */
+    public static boolean isPalindrome(ByteBuffer utf8) {
+        int start = utf8.position();
+        int i = start;
+        int j = utf8.limit() - 1;
+        while (i < j) {
+            byte left = utf8.get(i);
+            byte right = utf8.get(j);
+            if (left >= 0 && right >= 0) {
+                if (left != right) {
+                    return false;
+                }
+                i++;
+                j--;
+                continue;
+            }
+            int rightStart = j;
+            while (rightStart > start && j - rightStart < 3 && (utf8.get(rightStart) & 0xC0) == 0x80) {
+                rightStart--;
+            }
+            if (utf8LengthAt(utf8, rightStart) != j - rightStart + 1) {
+                throw new IllegalArgumentException("Malformed UTF-8 at index " + rightStart);
+            }
+            int leftLength = utf8LengthAt(utf8, i);
+            if (i + leftLength > utf8.limit()) {
+                throw new IllegalArgumentException("Malformed UTF-8 at index " + i);
+            }
+            if (decodeUtf8(utf8, i, leftLength) != decodeUtf8(utf8, rightStart, j - rightStart + 1)) {
+                return false;
+            }
+            i += leftLength;
+            j = rightStart - 1;
+        }
+        return true;
+    }
+
+    /**
+     * Checks every input, returning the positions of the palindromes.
+     */
+    public static BitSet arePalindromes(List<? extends CharSequence> inputs) {
+        BitSet palindromes = new BitSet(inputs.size());
+        int i = 0;
+        for (CharSequence input : inputs) {
+            if (isPalindrome(input)) {
+                palindromes.set(i);
+            }
+            i++;
+        }
+        return palindromes;
+    }
+
+    public static int countPalindromes(List<? extends CharSequence> inputs) {
+        int count = 0;
+        for (CharSequence input : inputs) {
+            if (isPalindrome(input)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     public static boolean isNumberDivisibleByThree(int i) {
         return i % 3 == 0;
     }
+
+    public static BitSet divisibleByThree(int[] values) {
+        return divisibleBy(values, 3);
+    }
+
+    /**
+     * Marks the positions of the values divisible by {@code divisor} using the
+     * multiply-only test of {@link Divisor}. Bits are packed 64 at a time into the words of
+     * the returned set.
+     */
+    public static BitSet divisibleBy(int[] values, int divisor) {
+        Divisor test = Divisor.of(divisor);
+        long[] words = new long[(values.length + 63) >>> 6];
+        for (int i = 0; i < values.length; i++) {
+            if (test.divides(values[i])) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    public static BitSet divisibleBy(long[] values, long divisor) {
+        Divisor test = Divisor.of(divisor);
+        long[] words = new long[(values.length + 63) >>> 6];
+        for (int i = 0; i < values.length; i++) {
+            if (test.divides(values[i])) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Marks the numbers in {@code [from, to)} divisible by {@code divisor}; bit {@code i}
+     * stands for {@code from + i}. Multiples in a range are evenly spaced, so only they are
+     * visited.
+     */
+    public static BitSet divisibleBy(long from, long to, long divisor) {
+        if (divisor <= 0) {
+            throw new IllegalArgumentException("Divisor must be positive");
+        }
+        if (from > to || to - from > Integer.MAX_VALUE || to - from < 0) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+        }
+        int length = (int) (to - from);
+        long[] words = new long[(length + 63) >>> 6];
+        long remainder = Math.floorMod(from, divisor);
+        long first = remainder == 0 ? 0 : divisor - remainder;
+        for (long i = first; i < length; i += divisor) {
+            words[(int) (i >>> 6)] |= 1L << i;
+            if (i >= length - divisor) {
+                break;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    public static int countDivisibleBy(int[] values, int divisor) {
+        Divisor test = Divisor.of(divisor);
+        int count = 0;
+        for (int value : values) {
+            if (test.divides(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int utf8LengthAt(ByteBuffer utf8, int index) {
+        int lead = utf8.get(index) & 0xFF;
+        if (lead < 0x80) {
+            return 1;
+        }
+        if ((lead & 0xE0) == 0xC0) {
+            return 2;
+        }
+        if ((lead & 0xF0) == 0xE0) {
+            return 3;
+        }
+        if ((lead & 0xF8) == 0xF0) {
+            return 4;
+        }
+        throw new IllegalArgumentException("Malformed UTF-8 at index " + index);
+    }
+
+    private static int decodeUtf8(ByteBuffer utf8, int index, int length) {
+        int lead = utf8.get(index) & 0xFF;
+        int codePoint = length == 1 ? lead : lead & (0x7F >> length);
+        for (int k = 1; k < length; k++) {
+            int next = utf8.get(index + k) & 0xFF;
+            if ((next & 0xC0) != 0x80) {
+                throw new IllegalArgumentException("Malformed UTF-8 at index " + (index + k));
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        return codePoint;
+    }
 }
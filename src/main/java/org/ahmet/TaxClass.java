@@ -0,0 +1,6 @@
+package org.ahmet;
+
+public enum TaxClass {
+    STANDARD, REDUCED, EXEMPT
+
+}
@@ -32,7 +32,7 @@ public class Transaction {
     }
 
     public <R> R process(Function<Transaction, R> processor) {
-        return processor.apply(this);
+        return Metrics.TRANSACTION_PROCESS.call(() -> processor.apply(this));
     }
 
     public void execute(Consumer<Transaction> executor) {
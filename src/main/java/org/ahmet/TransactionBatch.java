@@ -0,0 +1,199 @@
+package org.ahmet;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Struct-of-arrays batch of transactions: ids are kept in a String[] column, amounts as
+ * a double[] and the credit/debit type as a byte code. Validation,
+ * processing and aggregation scan the columns directly; {@link #toTransaction(int)} only
+ * materializes a {@link Transaction} when one is actually needed.
+ */
+public class TransactionBatch {
+    public static final byte CREDIT = 0;
+    public static final byte DEBIT = 1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private String[] ids;
+    private double[] amounts;
+    private byte[] types;
+    private int size;
+
+    public TransactionBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TransactionBatch(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.ids = new String[initialCapacity];
+        this.amounts = new double[initialCapacity];
+        this.types = new byte[initialCapacity];
+    }
+
+    public static byte typeCode(String type) {
+        switch (type) {
+            case "credit":
+                return CREDIT;
+            case "debit":
+                return DEBIT;
+            default:
+                throw new IllegalArgumentException("Unknown transaction type: " + type);
+        }
+    }
+
+    public static String typeName(byte code) {
+        switch (code) {
+            case CREDIT:
+                return "credit";
+            case DEBIT:
+                return "debit";
+            default:
+                throw new IllegalArgumentException("Unknown transaction type code: " + code);
+        }
+    }
+
+    public void add(Transaction transaction) {
+        add(transaction.getId(), transaction.getAmount(), transaction.getType());
+    }
+
+    public void add(String id, double amount, String type) {
+        add(id, amount, typeCode(type));
+    }
+
+    public void add(String id, double amount, byte type) {
+        if (type != CREDIT && type != DEBIT) {
+            throw new IllegalArgumentException("Unknown transaction type code: " + type);
+        }
+        if (size == amounts.length) {
+            int newCapacity = Math.max(size + 1, size + (size >> 1) + 1);
+            ids = Arrays.copyOf(ids, newCapacity);
+            amounts = Arrays.copyOf(amounts, newCapacity);
+            types = Arrays.copyOf(types, newCapacity);
+        }
+        ids[size] = id;
+        amounts[size] = amount;
+        types[size] = type;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getId(int row) {
+        checkRow(row);
+        return ids[row];
+    }
+
+    public double getAmount(int row) {
+        checkRow(row);
+        return amounts[row];
+    }
+
+    public byte getTypeCode(int row) {
+        checkRow(row);
+        return types[row];
+    }
+
+    public String getType(int row) {
+        return typeName(getTypeCode(row));
+    }
+
+    public Transaction toTransaction(int row) {
+        return new Transaction(getId(row), getAmount(row), getType(row));
+    }
+
+    public BitSet validate(DoublePredicate amountValidator) {
+        BitSet valid = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (amountValidator.test(amounts[i])) {
+                valid.set(i);
+            }
+        }
+        return valid;
+    }
+
+    public int countValid(DoublePredicate amountValidator) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (amountValidator.test(amounts[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public double[] process(DoubleUnaryOperator processor) {
+        double[] processed = new double[size];
+        for (int i = 0; i < size; i++) {
+            processed[i] = processor.applyAsDouble(amounts[i]);
+        }
+        return processed;
+    }
+
+    public void processInPlace(DoubleUnaryOperator processor) {
+        for (int i = 0; i < size; i++) {
+            amounts[i] = processor.applyAsDouble(amounts[i]);
+        }
+    }
+
+    public double getTotalAmount() {
+        double total = 0.0;
+        for (int i = 0; i < size; i++) {
+            total += amounts[i];
+        }
+        return total;
+    }
+
+    public double getTotalAmount(byte type) {
+        double total = 0.0;
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type) {
+                total += amounts[i];
+            }
+        }
+        return total;
+    }
+
+    public int count(byte type) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public double getNetAmount() {
+        double net = 0.0;
+        for (int i = 0; i < size; i++) {
+            net += types[i] == CREDIT ? amounts[i] : -amounts[i];
+        }
+        return net;
+    }
+
+    public double getTotalAmount(BitSet rows) {
+        double total = 0.0;
+        for (int i = rows.nextSetBit(0); i >= 0 && i < size; i = rows.nextSetBit(i + 1)) {
+            total += amounts[i];
+        }
+        return total;
+    }
+
+    public void clear() {
+        Arrays.fill(ids, 0, size, null);
+        size = 0;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.ahmet;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches {@link Transaction#execute(Consumer)} calls for consumers that block on I/O.
+ * {@link #virtualThreads(int)} runs every call on its own virtual thread when the JVM
+ * supports them (Java 21+, see the {@code java21} profile) and falls back to a cached
+ * platform pool otherwise; {@link #fixedPool(int)} is the classic bounded pool. In both
+ * modes a semaphore caps the number of calls in flight, and
+ * {@link #executeAll(Collection, Consumer)} does not return until every call it started
+ * has finished.
+ */
+public class TransactionExecutor implements AutoCloseable {
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final boolean virtual;
+
+    private TransactionExecutor(ExecutorService executorService, int maxConcurrency, boolean virtual) {
+        this.executorService = executorService;
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+        this.virtual = virtual;
+    }
+
+    public static TransactionExecutor virtualThreads(int maxConcurrency) {
+        checkConcurrency(maxConcurrency);
+        ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+        if (virtualExecutor != null) {
+            return new TransactionExecutor(virtualExecutor, maxConcurrency, true);
+        }
+        return new TransactionExecutor(Executors.newCachedThreadPool(), maxConcurrency, false);
+    }
+
+    public static TransactionExecutor fixedPool(int threads) {
+        checkConcurrency(threads);
+        return new TransactionExecutor(Executors.newFixedThreadPool(threads), threads, false);
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreads.FACTORY != null;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public ExecutionResult executeAll(Collection<Transaction> transactions, Consumer<Transaction> executor) throws InterruptedException {
+        long start = System.nanoTime();
+        CountDownLatch done = new CountDownLatch(transactions.size());
+        AtomicLong succeeded = new AtomicLong();
+        List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+        int submitted = 0;
+        try {
+            for (Transaction transaction : transactions) {
+                permits.acquire();
+                try {
+                    executorService.execute(() -> {
+                        try {
+                            transaction.execute(executor);
+                            succeeded.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failures.add(new Failure(transaction, e));
+                        } finally {
+                            permits.release();
+                            done.countDown();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                submitted++;
+            }
+        } finally {
+            for (int i = submitted; i < transactions.size(); i++) {
+                done.countDown();
+            }
+            done.await();
+        }
+        return new ExecutionResult(succeeded.get(), new ArrayList<>(failures), System.nanoTime() - start);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executorService.shutdown();
+        executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    private static void checkConcurrency(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (VirtualThreads.FACTORY == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) VirtualThreads.FACTORY.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static final class VirtualThreads {
+        static final Method FACTORY = lookup();
+
+        private static Method lookup() {
+            try {
+                return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    }
+
+    public static class Failure {
+        private final Transaction transaction;
+        private final RuntimeException cause;
+
+        Failure(Transaction transaction, RuntimeException cause) {
+            this.transaction = transaction;
+            this.cause = cause;
+        }
+
+        public Transaction getTransaction() {
+            return transaction;
+        }
+
+        public RuntimeException getCause() {
+            return cause;
+        }
+    }
+
+    public static class ExecutionResult {
+        private final long succeeded;
+        private final List<Failure> failures;
+        private final long elapsedNanos;
+
+        ExecutionResult(long succeeded, List<Failure> failures, long elapsedNanos) {
+            this.succeeded = succeeded;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getSucceeded() {
+            return succeeded;
+        }
+
+        public List<Failure> getFailures() {
+            return failures;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
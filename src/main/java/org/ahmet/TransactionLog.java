@@ -0,0 +1,275 @@
+package org.ahmet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary log of transactions stored as fixed 64-byte records in
+ * memory-mapped segment files. Each record is
+ * {@code [int crc][byte type][byte idLength][short 0][double amount][48 bytes UTF-8 id]}
+ * and the CRC covers everything after it, so a record torn by a crash fails its check.
+ * Replay and recovery stop at the first invalid slot of a segment. A full segment is
+ * forced to disk before the next one is created.
+ * <p>
+ * A log is not thread-safe: appends must come from a single thread or be synchronized by
+ * the caller. ASCII ids are written straight into the mapped segment, so appending them
+ * does not allocate.
+ */
+public class TransactionLog implements AutoCloseable {
+    public static final int RECORD_SIZE = 64;
+    public static final int MAX_ID_BYTES = 48;
+
+    private static final int TYPE_OFFSET = 4;
+    private static final int ID_LENGTH_OFFSET = 5;
+    private static final int AMOUNT_OFFSET = 8;
+    private static final int ID_OFFSET = 16;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("transactions-(\\d{6})\\.log");
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final CRC32 crc = new CRC32();
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private int segmentCapacity;
+    private int position;
+    private long sealedRecords;
+    private boolean closed;
+
+    public TransactionLog(Path directory, int recordsPerSegment) throws IOException {
+        if (recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("Records per segment must be positive");
+        }
+        if (recordsPerSegment > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalArgumentException("Records per segment must be at most " + Integer.MAX_VALUE / RECORD_SIZE);
+        }
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        Files.createDirectories(directory);
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) {
+            openSegment(0);
+        } else {
+            for (int i = 0; i < segments.size() - 1; i++) {
+                sealedRecords += Files.size(segments.get(i)) / RECORD_SIZE;
+            }
+            Path last = segments.get(segments.size() - 1);
+            openSegment(segmentIndexOf(last));
+            position = countValidRecords(segment, segmentCapacity);
+            discardTail();
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long size() {
+        return sealedRecords + position;
+    }
+
+    public long append(Transaction transaction) {
+        return append(transaction.getId(), transaction.getAmount(), TransactionBatch.typeCode(transaction.getType()));
+    }
+
+    public void appendAll(TransactionBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            append(batch.getId(i), batch.getAmount(i), batch.getTypeCode(i));
+        }
+    }
+
+    public long append(String id, double amount, byte type) {
+        if (closed) {
+            throw new IllegalStateException("Log is closed");
+        }
+        if (type != TransactionBatch.CREDIT && type != TransactionBatch.DEBIT) {
+            throw new IllegalArgumentException("Unknown transaction type code: " + type);
+        }
+        byte[] idBytes = id.length() <= MAX_ID_BYTES && !isAscii(id) ? id.getBytes(StandardCharsets.UTF_8) : null;
+        int idLength = idBytes == null ? id.length() : idBytes.length;
+        if (idLength > MAX_ID_BYTES) {
+            throw new IllegalArgumentException("Transaction id longer than " + MAX_ID_BYTES + " bytes");
+        }
+        if (position == segmentCapacity) {
+            roll();
+        }
+        int base = position * RECORD_SIZE;
+        segment.put(base + TYPE_OFFSET, type);
+        segment.put(base + ID_LENGTH_OFFSET, (byte) idLength);
+        segment.putShort(base + 6, (short) 0);
+        segment.putDouble(base + AMOUNT_OFFSET, amount);
+        if (idBytes == null) {
+            for (int i = 0; i < idLength; i++) {
+                segment.put(base + ID_OFFSET + i, (byte) id.charAt(i));
+            }
+        } else {
+            segment.put(base + ID_OFFSET, idBytes);
+        }
+        for (int i = ID_OFFSET + idLength; i < RECORD_SIZE; i++) {
+            segment.put(base + i, (byte) 0);
+        }
+        segment.putInt(base, checksum(crc, segment, base));
+        position++;
+        return sealedRecords + position - 1;
+    }
+
+    public void flush() {
+        segment.force();
+    }
+
+    public long replay(Consumer<Transaction> consumer) throws IOException {
+        return replay(directory, consumer);
+    }
+
+    public long replay(TransactionBatch batch) throws IOException {
+        return replay(directory, batch);
+    }
+
+    public static long replay(Path directory, Consumer<Transaction> consumer) throws IOException {
+        return scan(directory, (id, amount, type) -> consumer.accept(new Transaction(id, amount, TransactionBatch.typeName(type))));
+    }
+
+    public static long replay(Path directory, TransactionBatch batch) throws IOException {
+        return scan(directory, batch::add);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            segment.force();
+            closed = true;
+        }
+    }
+
+    private interface RecordSink {
+        void accept(String id, double amount, byte type);
+    }
+
+    private static long scan(Path directory, RecordSink sink) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] idBytes = new byte[MAX_ID_BYTES];
+        long count = 0;
+        for (Path path : listSegments(directory)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                int capacity = (int) (channel.size() / RECORD_SIZE);
+                for (int slot = 0; slot < capacity; slot++) {
+                    int base = slot * RECORD_SIZE;
+                    if (!isValid(crc, buffer, base)) {
+                        break;
+                    }
+                    int length = buffer.get(base + ID_LENGTH_OFFSET);
+                    buffer.get(base + ID_OFFSET, idBytes, 0, length);
+                    sink.accept(new String(idBytes, 0, length, StandardCharsets.UTF_8),
+                            buffer.getDouble(base + AMOUNT_OFFSET), buffer.get(base + TYPE_OFFSET));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Zeroes every slot after the last valid record, so records that followed a torn one
+     * cannot become valid again once the gap is overwritten.
+     */
+    private void discardTail() {
+        boolean dirty = false;
+        for (int i = position * RECORD_SIZE, end = segmentCapacity * RECORD_SIZE; i < end; i += Long.BYTES) {
+            if (segment.getLong(i) != 0) {
+                segment.putLong(i, 0);
+                dirty = true;
+            }
+        }
+        if (dirty) {
+            segment.force();
+        }
+    }
+
+    private void roll() {
+        segment.force();
+        sealedRecords += segmentCapacity;
+        try {
+            openSegment(segmentIndex + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+
+    private void openSegment(int index) throws IOException {
+        Path path = directory.resolve(String.format("transactions-%06d.log", index));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long existing = channel.size();
+            long size = existing > 0 ? existing - existing % RECORD_SIZE : (long) recordsPerSegment * RECORD_SIZE;
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            segmentCapacity = (int) (size / RECORD_SIZE);
+        }
+        segmentIndex = index;
+    }
+
+    private static boolean isAscii(String id) {
+        for (int i = 0; i < id.length(); i++) {
+            if (id.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countValidRecords(ByteBuffer buffer, int capacity) {
+        CRC32 crc = new CRC32();
+        int slot = 0;
+        while (slot < capacity && isValid(crc, buffer, slot * RECORD_SIZE)) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private static boolean isValid(CRC32 crc, ByteBuffer buffer, int base) {
+        int length = buffer.get(base + ID_LENGTH_OFFSET);
+        return length >= 0 && length <= MAX_ID_BYTES && buffer.getInt(base) == checksum(crc, buffer, base);
+    }
+
+    private static int checksum(CRC32 crc, ByteBuffer buffer, int base) {
+        crc.reset();
+        buffer.limit(base + RECORD_SIZE).position(base + TYPE_OFFSET);
+        crc.update(buffer);
+        buffer.clear();
+        return (int) crc.getValue();
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted()
+                    .forEach(segments::add);
+        }
+        return segments;
+    }
+
+    private static int segmentIndexOf(Path path) {
+        Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a segment file: " + path);
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+}
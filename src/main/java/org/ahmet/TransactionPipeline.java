@@ -0,0 +1,306 @@
+package org.ahmet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Runs batches of transactions through validate, process and execute stages, each on
+ * its own thread with a bounded queue in front of it. When a downstream stage falls
+ * behind its queue fills up and {@link #submit(List)} blocks, which pushes back on the
+ * producer. Transactions rejected by the validator are dropped after the first stage,
+ * and a batch whose stage function throws is counted as failed and dropped. A stage that
+ * hits an {@link Error} or is interrupted records that as the pipeline failure and
+ * discards everything that reaches it afterwards; it still passes the end-of-stream marker
+ * on, so {@link #close()} always returns and then rethrows the failure.
+ */
+public class TransactionPipeline implements AutoCloseable {
+    private static final List<Transaction> END_OF_STREAM = Collections.unmodifiableList(new ArrayList<>(0));
+
+    private final BlockingQueue<List<Transaction>> validationQueue;
+    private final BlockingQueue<List<Transaction>> processingQueue;
+    private final BlockingQueue<List<Transaction>> executionQueue;
+    private final StageStats validationStats = new StageStats("validate");
+    private final StageStats processingStats = new StageStats("process");
+    private final StageStats executionStats = new StageStats("execute");
+    private final List<Thread> workers = new ArrayList<>();
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean closed;
+
+    public TransactionPipeline(Predicate<Transaction> validator, Function<Transaction, Transaction> processor,
+                               Consumer<Transaction> executor, int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.validationQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.processingQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executionQueue = new ArrayBlockingQueue<>(queueCapacity);
+
+        startStage(validationStats, validationQueue, processingQueue, batch -> {
+            List<Transaction> valid = new ArrayList<>(batch.size());
+            for (Transaction transaction : batch) {
+                if (transaction.validate(validator)) {
+                    valid.add(transaction);
+                }
+            }
+            return valid;
+        });
+        startStage(processingStats, processingQueue, executionQueue, batch -> {
+            List<Transaction> processed = new ArrayList<>(batch.size());
+            for (Transaction transaction : batch) {
+                processed.add(transaction.process(processor));
+            }
+            return processed;
+        });
+        startStage(executionStats, executionQueue, null, batch -> {
+            for (Transaction transaction : batch) {
+                transaction.execute(executor);
+            }
+            return batch;
+        });
+    }
+
+    public void submit(List<Transaction> batch) throws InterruptedException {
+        closeLock.readLock().lockInterruptibly();
+        try {
+            checkOpen();
+            if (!batch.isEmpty()) {
+                validationQueue.put(batch);
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    public boolean offer(List<Transaction> batch, long timeout, TimeUnit unit) throws InterruptedException {
+        closeLock.readLock().lockInterruptibly();
+        try {
+            checkOpen();
+            return batch.isEmpty() || validationQueue.offer(batch, timeout, unit);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The first error that stopped a stage, or {@code null} if every stage is healthy.
+     */
+    public Throwable getFailure() {
+        return failure.get();
+    }
+
+    public StageStats getValidationStats() {
+        return validationStats;
+    }
+
+    public StageStats getProcessingStats() {
+        return processingStats;
+    }
+
+    public StageStats getExecutionStats() {
+        return executionStats;
+    }
+
+    /**
+     * Stops accepting batches, waits for everything already submitted to be executed
+     * and stops the stage threads. Submissions in progress finish before the end marker
+     * is queued, so no accepted batch is left behind it.
+     *
+     * @throws IllegalStateException if a stage failed with an error
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closeLock.writeLock().lockInterruptibly();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            validationQueue.put(END_OF_STREAM);
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new IllegalStateException("Pipeline stage failed", error);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Pipeline is closed");
+        }
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new IllegalStateException("Pipeline stage failed", error);
+        }
+    }
+
+    private void startStage(StageStats stats, BlockingQueue<List<Transaction>> input,
+                            BlockingQueue<List<Transaction>> output, Function<List<Transaction>, List<Transaction>> stage) {
+        Thread worker = new Thread(() -> {
+            boolean failed = false;
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    List<Transaction> batch;
+                    try {
+                        batch = input.take();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        failed = true;
+                        failure.compareAndSet(null, e);
+                        continue;
+                    }
+                    if (batch == END_OF_STREAM) {
+                        return;
+                    }
+                    if (failed) {
+                        stats.recordFailure(batch.size());
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    List<Transaction> result;
+                    try {
+                        result = stage.apply(batch);
+                    } catch (RuntimeException e) {
+                        stats.recordFailure(batch.size());
+                        continue;
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                        stats.recordFailure(batch.size());
+                        failed = true;
+                        continue;
+                    }
+                    stats.record(batch.size(), result.size(), System.nanoTime() - start);
+                    if (output != null && !result.isEmpty()) {
+                        try {
+                            output.put(result);
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                            failed = true;
+                            failure.compareAndSet(null, e);
+                        }
+                    }
+                }
+            } finally {
+                if (output != null) {
+                    interrupted |= putUninterruptibly(output, END_OF_STREAM);
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, "transaction-pipeline-" + stats.getName());
+        worker.setDaemon(true);
+        workers.add(worker);
+        worker.start();
+    }
+
+    /**
+     * Puts {@code batch} even if the thread is interrupted, returning whether it was.
+     */
+    private static boolean putUninterruptibly(BlockingQueue<List<Transaction>> queue, List<Transaction> batch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(batch);
+                return interrupted;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+    }
+
+    /**
+     * Counters for one pipeline stage. Latency is the time the stage spent on a batch,
+     * throughput is measured against the stage's busy time.
+     */
+    public static class StageStats {
+        private final String name;
+        private final AtomicLong batches = new AtomicLong();
+        private final AtomicLong transactionsIn = new AtomicLong();
+        private final AtomicLong transactionsOut = new AtomicLong();
+        private final AtomicLong failedBatches = new AtomicLong();
+        private final AtomicLong busyNanos = new AtomicLong();
+        private final AtomicLong maxBatchNanos = new AtomicLong();
+
+        StageStats(String name) {
+            this.name = name;
+        }
+
+        void record(int in, int out, long nanos) {
+            batches.incrementAndGet();
+            transactionsIn.addAndGet(in);
+            transactionsOut.addAndGet(out);
+            busyNanos.addAndGet(nanos);
+            maxBatchNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        void recordFailure(int in) {
+            failedBatches.incrementAndGet();
+            transactionsIn.addAndGet(in);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getBatches() {
+            return batches.get();
+        }
+
+        public long getTransactionsIn() {
+            return transactionsIn.get();
+        }
+
+        public long getTransactionsOut() {
+            return transactionsOut.get();
+        }
+
+        public long getFailedBatches() {
+            return failedBatches.get();
+        }
+
+        public long getBusyNanos() {
+            return busyNanos.get();
+        }
+
+        public long getMaxBatchLatencyNanos() {
+            return maxBatchNanos.get();
+        }
+
+        public double getAverageBatchLatencyNanos() {
+            long count = batches.get();
+            return count == 0 ? 0.0 : (double) busyNanos.get() / count;
+        }
+
+        public double getThroughputPerSecond() {
+            long nanos = busyNanos.get();
+            return nanos == 0 ? 0.0 : transactionsIn.get() * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return "StageStats{name=" + name + ", batches=" + getBatches() + ", in=" + getTransactionsIn()
+                    + ", out=" + getTransactionsOut() + ", failedBatches=" + getFailedBatches()
+                    + ", avgBatchLatencyNanos=" + getAverageBatchLatencyNanos()
+                    + ", maxBatchLatencyNanos=" + getMaxBatchLatencyNanos()
+                    + ", throughputPerSecond=" + getThroughputPerSecond() + "}";
+        }
+    }
+}
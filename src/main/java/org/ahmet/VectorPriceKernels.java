@@ -0,0 +1,83 @@
+package org.ahmet;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Only loaded reflectively by {@link PriceKernels#vectorized()} once the incubator module
+ * is known to be present, so the rest of the code never links against it.
+ */
+class VectorPriceKernels implements PriceKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public double sum(DoubleColumn prices) {
+        double[] values = prices.array();
+        int start = prices.offset();
+        int end = start + prices.size();
+        int upper = start + SPECIES.loopBound(prices.size());
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int i = start;
+        for (; i < upper; i += SPECIES.length()) {
+            acc = acc.add(DoubleVector.fromArray(SPECIES, values, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < end; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double max(DoubleColumn prices) {
+        if (prices.isEmpty()) return 0.0;
+        double[] values = prices.array();
+        int start = prices.offset();
+        int end = start + prices.size();
+        int upper = start + SPECIES.loopBound(prices.size());
+        double max = Double.NEGATIVE_INFINITY;
+        int i = start;
+        if (upper > start) {
+            DoubleVector acc = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+            for (; i < upper; i += SPECIES.length()) {
+                acc = acc.max(DoubleVector.fromArray(SPECIES, values, i));
+            }
+            max = acc.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < end; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public DoubleColumn filterAbove(DoubleColumn prices, double threshold) {
+        double[] values = prices.array();
+        int start = prices.offset();
+        int end = start + prices.size();
+        int upper = start + SPECIES.loopBound(prices.size());
+        DoubleColumn result = new DoubleColumn(prices.size());
+        int i = start;
+        for (; i < upper; i += SPECIES.length()) {
+            VectorMask<Double> mask = DoubleVector.fromArray(SPECIES, values, i).compare(VectorOperators.GT, threshold);
+            long bits = mask.toLong();
+            while (bits != 0) {
+                result.add(values[i + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        for (; i < end; i++) {
+            if (values[i] > threshold) {
+                result.add(values[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+}
@@ -0,0 +1,124 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountLedgerTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "3, 4", "16, 16", "17, 32"})
+    void testShardCountRoundedToPowerOfTwo(int requested, int expected) {
+        assertEquals(expected, new AccountLedger(requested).getShardCount());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"12345, 1000, 500, 1500", "67890, 2000, 1000, 3000"})
+    void testDepositByAccountNumber(String accountNumber, double initialBalance, double depositAmount, double expectedBalance) {
+        AccountLedger ledger = new AccountLedger(4);
+        ledger.open(new Account(accountNumber, initialBalance));
+        ledger.deposit(accountNumber, depositAmount);
+        assertEquals(expectedBalance, ledger.get(accountNumber).getBalance(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"12345", "67890"})
+    void testOpenRejectsDuplicateAccount(String accountNumber) {
+        AccountLedger ledger = new AccountLedger(4);
+        ledger.open(new Account(accountNumber, 100));
+        assertThrows(IllegalArgumentException.class, () -> ledger.open(new Account(accountNumber, 200)));
+        assertEquals(1, ledger.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"missing", ""})
+    void testUnknownAccount(String accountNumber) {
+        AccountLedger ledger = new AccountLedger(4);
+        assertNull(ledger.find(accountNumber));
+        assertThrows(IllegalArgumentException.class, () -> ledger.withdraw(accountNumber, 1));
+        assertThrows(IllegalArgumentException.class, () -> ledger.close(accountNumber));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000, 5, 1050", "2000, 10, 2200"})
+    void testApplyInterestAcrossLedger(double initialBalance, double interestRate, double expectedBalance) {
+        AccountLedger ledger = new AccountLedger(8);
+        for (int i = 0; i < 1000; i++) {
+            ledger.open(new Account("acc-" + i, initialBalance));
+        }
+        ledger.applyInterest(interestRate);
+        for (Account account : ledger.accounts()) {
+            assertEquals(expectedBalance, account.getBalance(), 1e-9);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"4, 100, 20000", "8, 1000, 10000"})
+    void testConcurrentTransfersConserveMoney(int threads, int accountCount, int transfersPerThread) throws InterruptedException {
+        AccountLedger ledger = new AccountLedger(16);
+        for (int i = 0; i < accountCount; i++) {
+            ledger.open(new Account("acc-" + i, 100));
+        }
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < transfersPerThread; i++) {
+                    try {
+                        ledger.transferFunds("acc-" + random.nextInt(accountCount), "acc-" + random.nextInt(accountCount), random.nextInt(1, 60));
+                    } catch (IllegalArgumentException e) {
+                        // insufficient balance is expected under contention
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(accountCount * 100.0, ledger.getTotalBalance(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"4, 64", "8, 256"})
+    void testCloseWaitsForInFlightTransfers(int threads, int accountCount) throws InterruptedException {
+        AccountLedger ledger = new AccountLedger(4);
+        for (int i = 0; i < accountCount; i++) {
+            ledger.open(new Account("acc-" + i, 100));
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    try {
+                        ledger.transferFunds("acc-" + random.nextInt(accountCount), "acc-" + random.nextInt(accountCount), random.nextInt(1, 60));
+                    } catch (IllegalArgumentException e) {
+                        // insufficient balance or an account that is already closed
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        List<Account> closed = new ArrayList<>();
+        long closedUnits = 0;
+        for (int i = 0; i < accountCount; i += 2) {
+            Account account = ledger.close("acc-" + i);
+            closed.add(account);
+            closedUnits += account.getBalanceUnits();
+        }
+        running.set(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(closedUnits, closed.stream().mapToLong(Account::getBalanceUnits).sum());
+        assertEquals(accountCount * 100.0, ledger.getTotalBalance() + (double) closedUnits / Account.SCALE, 1e-9);
+    }
+}
@@ -1,9 +1,12 @@
 package org.ahmet;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -99,4 +102,114 @@ class AccountTest {
         );
     }
 
-}
\ No newline at end of file
+    @ParameterizedTest
+    @CsvSource({"2, 10, 20000", "8, 50, 20000", "16, 3, 5000"})
+    void testConcurrentTransfersConserveMoney(int threads, int accountCount, int transfersPerThread) throws InterruptedException {
+        Account[] accounts = new Account[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            accounts[i] = new Account(String.valueOf(i), 100);
+        }
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < transfersPerThread; i++) {
+                    Account source = accounts[random.nextInt(accountCount)];
+                    Account target = accounts[random.nextInt(accountCount)];
+                    try {
+                        source.transferFunds(target, random.nextInt(1, 50) + 0.25);
+                    } catch (IllegalArgumentException e) {
+                        // insufficient balance is expected under contention
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long total = 0;
+        for (Account account : accounts) {
+            assertTrue(account.getBalanceUnits() >= 0);
+            total += account.getBalanceUnits();
+        }
+        assertEquals(accountCount * 100 * Account.SCALE, total);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"4, 1000, 1", "8, 500, 3"})
+    void testConcurrentWithdrawalsNeverOverdraw(int threads, double initialBalance, double amount) throws InterruptedException {
+        Account account = new Account("12345", initialBalance);
+        AtomicInteger successes = new AtomicInteger();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < initialBalance; i++) {
+                    try {
+                        account.withdraw(amount);
+                        successes.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        // expected once the balance is exhausted
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals((int) (initialBalance / amount), successes.get());
+        assertEquals(initialBalance - successes.get() * amount, account.getBalance(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000, 1000.01", "0, 0.5"})
+    void testTransferWithInsufficientBalanceLeavesAccountsUnchanged(double sourceBalance, double amount) {
+        Account source = new Account("12345", sourceBalance);
+        Account target = new Account("67890", 0);
+        assertThrows(IllegalArgumentException.class, () -> source.transferFunds(target, amount));
+        assertEquals(sourceBalance, source.getBalance(), 1e-9);
+        assertEquals(0, target.getBalance(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1e16, -1e16, Double.NaN, Double.POSITIVE_INFINITY})
+    void testOutOfRangeAmountsRejected(double amount) {
+        assertThrows(IllegalArgumentException.class, () -> new Account("a", amount));
+        Account account = new Account("b", 100);
+        assertThrows(IllegalArgumentException.class, () -> account.deposit(amount));
+        assertThrows(IllegalArgumentException.class, () -> account.withdraw(amount));
+        assertEquals(100.0, account.getBalance(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.01, -50, -1000})
+    void testNegativeAmountsRejected(double amount) {
+        Account source = new Account("12345", 100);
+        Account target = new Account("67890", 100);
+        assertThrows(IllegalArgumentException.class, () -> source.deposit(amount));
+        assertThrows(IllegalArgumentException.class, () -> source.withdraw(amount));
+        assertThrows(IllegalArgumentException.class, () -> source.transferFunds(target, amount));
+        assertThrows(IllegalArgumentException.class, () -> source.transferFunds(target, Money.of(amount, 2)));
+        assertEquals(100.0, source.getBalance(), 1e-9);
+        assertEquals(100.0, target.getBalance(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"900000000000000, 900000000000000", "500000000000000, 500000000000000"})
+    void testTargetOverflowRejectedAndRolledBack(double targetBalance, double amount) {
+        Account source = new Account("12345", amount);
+        Account target = new Account("67890", targetBalance);
+        assertThrows(IllegalArgumentException.class, () -> target.deposit(amount));
+        assertThrows(IllegalArgumentException.class, () -> source.transferFunds(target, amount));
+        assertEquals(amount, source.getBalance(), 1e-9);
+        assertEquals(targetBalance, target.getBalance(), 1e-9);
+    }
+
+    @Test
+    void testScaleDerivedFromDigits() {
+        assertEquals(Money.powerOfTen(Account.SCALE_DIGITS), Account.SCALE);
+        assertEquals(Account.SCALE, Account.toUnits(1.0));
+        assertEquals(Account.SCALE_DIGITS, new Account("12345", 1.0).getBalanceMoney().getScale());
+    }
+}
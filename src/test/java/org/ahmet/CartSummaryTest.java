@@ -0,0 +1,81 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CartSummaryTest {
+
+    @ParameterizedTest
+    @MethodSource("providePricesForSummary")
+    void testSummarizeMatchesIndividualMethods(List<Double> prices, double discount, double tax) {
+        CartSummary summary = ShoppingCartUtils.summarize(prices, discount, tax);
+        assertEquals(ShoppingCartUtils.countItems(prices), summary.getCount());
+        assertEquals(ShoppingCartUtils.calculateTotalPrice(prices), summary.getSum(), 1e-9);
+        assertEquals(ShoppingCartUtils.calculateAveragePrice(prices), summary.getMean(), 1e-9);
+        assertEquals(ShoppingCartUtils.findMostExpensiveItem(prices), summary.getMax(), 1e-9);
+        assertEquals(ShoppingCartUtils.calculateTotalPriceWithDiscount(prices, discount), summary.getDiscountedTotal(), 1e-9);
+        assertEquals(ShoppingCartUtils.calculateTotalPriceWithTax(prices, tax), summary.getTaxedTotal(), 1e-9);
+        assertEquals(ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(prices, discount, tax), summary.getDiscountedAndTaxedTotal(), 1e-9);
+    }
+
+    private static Stream<Arguments> providePricesForSummary() {
+        return Stream.of(
+                Arguments.of(Arrays.asList(10.0, 20.0, 30.0), 0.1, 0.1),
+                Arguments.of(Arrays.asList(5.0, 1.5, 42.0, 7.25), 0.2, 0.08),
+                Arguments.of(Collections.emptyList(), 0.1, 0.1)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'10.0,20.0,30.0', 10.0, 30.0", "'7.5', 7.5, 7.5", "'', 0.0, 0.0"})
+    void testMinAndMax(String prices, double expectedMin, double expectedMax) {
+        DoubleColumn column = prices.isEmpty() ? new DoubleColumn() : DoubleColumn.of(Arrays.stream(prices.split(",")).mapToDouble(Double::parseDouble).toArray());
+        CartSummary summary = ShoppingCartUtils.summarize(column, 0.0, 0.0);
+        assertEquals(expectedMin, summary.getMin(), 1e-9);
+        assertEquals(expectedMax, summary.getMax(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void testCombinedPartialsMatchSinglePass(int split) {
+        DoubleColumn column = DoubleColumn.of(10.0, 20.0, 30.0);
+        CartSummary left = ShoppingCartUtils.summarize(column.view(0, split), 0.1, 0.2);
+        CartSummary right = ShoppingCartUtils.summarize(column.view(split, 3), 0.1, 0.2);
+        CartSummary whole = ShoppingCartUtils.summarize(column, 0.1, 0.2);
+        CartSummary combined = left.combine(right);
+        assertEquals(whole.getCount(), combined.getCount());
+        assertEquals(whole.getSum(), combined.getSum(), 1e-9);
+        assertEquals(whole.getMin(), combined.getMin(), 1e-9);
+        assertEquals(whole.getMax(), combined.getMax(), 1e-9);
+        assertEquals(whole.getDiscountedAndTaxedTotal(), combined.getDiscountedAndTaxedTotal(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0.1, 0.2", "0.2, 0.1"})
+    void testCombineRejectsDifferentRates(double discount, double tax) {
+        CartSummary summary = new CartSummary(0.0, 0.0);
+        assertThrows(IllegalArgumentException.class, () -> summary.combine(new CartSummary(discount, tax)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000000, 0.1", "100000, 0.01", "10000, 1e-3"})
+    void testListAndColumnTotalsAgreeOnLargeCarts(int count, double price) {
+        List<Double> prices = Collections.nCopies(count, price);
+        DoubleColumn column = DoubleColumn.from(prices);
+        double expected = ShoppingCartUtils.calculateTotalPrice(prices);
+        assertEquals(count * price, expected, Math.ulp(count * price));
+        assertEquals(expected, ShoppingCartUtils.calculateTotalPrice(column));
+        assertEquals(expected, ShoppingCartUtils.summarize(prices, 0.0, 0.0).getSum());
+        assertEquals(expected, ShoppingCartUtils.summarize(column, 0.0, 0.0).getSum());
+        CartSummary halves = ShoppingCartUtils.summarize(column.view(0, count / 2), 0.0, 0.0)
+                .combine(ShoppingCartUtils.summarize(column.view(count / 2, count), 0.0, 0.0));
+        assertEquals(expected, halves.getSum(), Math.ulp(expected));
+    }
+}
@@ -0,0 +1,80 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CartTest {
+
+    @ParameterizedTest
+    @CsvSource({"'10.0,20.0,30.0', 0.1, 0.1, 60.0, 30.0, 59.4", "'5.0,15.0,25.0', 0.2, 0.0, 45.0, 25.0, 36.0"})
+    void testTotalsAfterAdds(String prices, double discount, double tax, double expectedTotal, double expectedMax, double expectedFinal) {
+        Cart cart = new Cart(discount, tax);
+        Arrays.stream(prices.split(",")).mapToDouble(Double::parseDouble).forEach(cart::add);
+        assertEquals(expectedTotal, cart.calculateTotalPrice(), 1e-9);
+        assertEquals(expectedMax, cart.findMostExpensiveItem(), 1e-9);
+        assertEquals(expectedFinal, cart.calculateTotalPriceWithDiscountAndTax(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 50.0, 30.0", "1, 30.0, 20.0", "2, 40.0, 30.0"})
+    void testRemoveUpdatesMaxAndTotal(int removedLine, double expectedTotal, double expectedMax) {
+        Cart cart = new Cart(0.0, 0.0);
+        int[] lines = {cart.add(10.0), cart.add(30.0), cart.add(20.0)};
+        cart.remove(lines[removedLine]);
+        assertEquals(2, cart.countItems());
+        assertEquals(expectedTotal, cart.calculateTotalPrice(), 1e-9);
+        assertEquals(expectedMax, cart.findMostExpensiveItem(), 1e-9);
+        assertFalse(cart.contains(lines[removedLine]));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"5.0, 30.0", "100.0, 100.0"})
+    void testUpdatePrice(double newPrice, double expectedMax) {
+        Cart cart = new Cart(0.0, 0.0);
+        int line = cart.add(10.0);
+        cart.add(30.0);
+        cart.updatePrice(line, newPrice);
+        assertEquals(expectedMax, cart.findMostExpensiveItem(), 1e-9);
+        assertEquals(30.0 + newPrice, cart.calculateTotalPrice(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 42, 2024})
+    void testRandomOperationsMatchShoppingCartUtils(long seed) {
+        Random random = new Random(seed);
+        Cart cart = new Cart(DiscountType.SEASONAL, 0.2);
+        List<Integer> lines = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            if (lines.isEmpty() || random.nextInt(3) > 0) {
+                lines.add(cart.add(Math.round(random.nextDouble() * 10000) / 100.0));
+            } else {
+                cart.remove(lines.remove(random.nextInt(lines.size())));
+            }
+            if (step % 250 == 0) {
+                DoubleColumn prices = cart.toColumn();
+                assertEquals(ShoppingCartUtils.calculateTotalPrice(prices), cart.calculateTotalPrice(), 1e-6);
+                assertEquals(ShoppingCartUtils.findMostExpensiveItem(prices), cart.findMostExpensiveItem());
+                assertEquals(ShoppingCartUtils.calculateAveragePrice(prices), cart.calculateAveragePrice(), 1e-6);
+                assertEquals(ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(prices, 0.1, 0.2), cart.calculateTotalPriceWithDiscountAndTax(), 1e-6);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 7})
+    void testUnknownLineRejected(int lineId) {
+        Cart cart = new Cart(0.0, 0.0);
+        int line = cart.add(1.0);
+        cart.remove(line);
+        assertThrows(IllegalArgumentException.class, () -> cart.remove(lineId));
+        assertEquals(0.0, cart.calculateTotalPrice());
+        assertEquals(0.0, cart.findMostExpensiveItem());
+    }
+}
@@ -0,0 +1,91 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvStreamReaderTest {
+
+    private static CsvStreamReader reader(String csv, int chunkSize) {
+        InputStream in = new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+        return new CsvStreamReader(Channels.newChannel(in), chunkSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "10.0", "-3.25", "1e5", "1.5E-3", "0.1", "123456789012345", "1234567890.123456789",
+            "4.9e-324", "1.7976931348623157e308", "00012.500", " 7.5 ", ".5", "-0.0", "NaN", "9007199254740993"})
+    void testParseDoubleMatchesJdk(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Double.parseDouble(text.trim()), CsvStreamReader.parseDouble(bytes, 0, bytes.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "1.2.3", "--1", "1e"})
+    void testParseDoubleRejectsGarbage(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        assertThrows(NumberFormatException.class, () -> CsvStreamReader.parseDouble(bytes, 0, bytes.length));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 60.0, 3", "4, 60.0, 3", "1024, 60.0, 3"})
+    void testReadColumnIntoCartSummary(int chunkSize, double expectedTotal, long expectedCount) throws IOException {
+        String csv = "name,price\r\napple,10.0\r\n\"pear, green\",20.0\r\n\r\nplum,30.0";
+        CartSummary summary = new CartSummary(0.0, 0.0);
+        assertEquals(expectedCount, reader(csv, chunkSize).readColumn(1, true, summary));
+        assertEquals(expectedTotal, summary.getSum(), 1e-9);
+        assertEquals(expectedCount, summary.getCount());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2, 3", "5, 10", "1, 7"})
+    void testReadTransactionsInBoundedBatches(int batchSize, int chunkSize) throws IOException {
+        String csv = "id,amount,type\n1,100.0,credit\n2,-50.0,debit\n\"3\",200.5,debit\n4,1e2,credit\n5,0.25,credit\n";
+        List<Transaction> transactions = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        long read = reader(csv, chunkSize).readTransactions(true, batchSize, batch -> {
+            batchSizes.add(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                transactions.add(batch.toTransaction(i));
+            }
+        });
+        assertEquals(5, read);
+        assertEquals(5, transactions.size());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= batchSize));
+        assertEquals("3", transactions.get(2).getId());
+        assertEquals(200.5, transactions.get(2).getAmount());
+        assertEquals("debit", transactions.get(2).getType());
+        assertEquals(100.0, transactions.get(3).getAmount());
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"'\"b\"\"c\"'|b\"c", "'\"x,y\"'|x,y", "plain|plain"}, delimiter = '|')
+    void testQuotedIds(String quotedId, String expectedId) throws IOException {
+        List<String> ids = new ArrayList<>();
+        reader(quotedId + ",1.0,credit\n", 3).readTransactions(false, 10, batch -> ids.add(batch.getId(0)));
+        assertEquals(List.of(expectedId), ids);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1,2.0,refund\n", "1,2.0\n", "\"1,2.0,credit\n"})
+    void testMalformedTransactionRowsRejected(String csv) {
+        assertThrows(IllegalArgumentException.class, () -> reader(csv, 16).readTransactions(false, 10, batch -> { }));
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/test-data.csv", numLinesToSkip = 1)
+    void testMatchesSplitBasedParsing(String prices, double expected) throws IOException {
+        String csv = prices == null ? "" : prices.replace(',', '\n');
+        DoubleColumn column = new DoubleColumn();
+        reader(csv, 5).readColumn(0, false, column::add);
+        assertEquals(expected, ShoppingCartUtils.calculateTotalPrice(column), 1e-9);
+    }
+}
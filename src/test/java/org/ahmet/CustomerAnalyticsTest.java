@@ -0,0 +1,133 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerAnalyticsTest {
+    private static final String[] PRODUCTS = {"apple", "banana", "cherry", "date", "elderberry"};
+
+    private static List<Customer> customers(int count, long seed) {
+        Random random = new Random(seed);
+        List<Customer> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Product> orders = new ArrayList<>();
+            for (int line = random.nextInt(5); line > 0; line--) {
+                orders.add(new Product(PRODUCTS[random.nextInt(PRODUCTS.length)], 1 + random.nextInt(100), 1 + random.nextInt(3)));
+            }
+            customers.add(new Customer("customer" + i, orders));
+        }
+        return customers;
+    }
+
+    private static double perCustomerTotal(Customer customer) {
+        return customer.process(c -> c.getOrders().stream().mapToDouble(p -> p.getPrice() * p.getQuantity()).sum());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 1", "1, 4", "1000, 1", "1000, 7", "50000, 64"})
+    void testTotalsMatchPerCustomerProcessing(int count, int partitions) {
+        List<Customer> customers = customers(count, count);
+        CustomerAnalytics.Report report = new CustomerAnalytics(ForkJoinPool.commonPool(), partitions).analyze(customers, 5);
+        double expectedTotal = 0;
+        long lines = 0;
+        for (int i = 0; i < count; i++) {
+            double expected = perCustomerTotal(customers.get(i));
+            assertEquals(expected, report.getCustomerTotal(i), 1e-9);
+            expectedTotal += expected;
+            lines += customers.get(i).getOrders().size();
+        }
+        assertEquals(count, report.getCustomerCount());
+        assertEquals(expectedTotal, report.getTotal(), 1e-6);
+        assertEquals(lines, report.getOrderLineCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 10, 0})
+    void testTopSpenders(int topN) {
+        List<Customer> customers = customers(5000, 11);
+        CustomerAnalytics.Report report = new CustomerAnalytics().analyze(customers, topN);
+        List<Double> expected = customers.stream().map(CustomerAnalyticsTest::perCustomerTotal)
+                .sorted(Comparator.reverseOrder()).limit(topN).collect(Collectors.toList());
+        List<Double> actual = report.getTopSpenders().stream().map(CustomerAnalytics.Spender::getTotal).collect(Collectors.toList());
+        assertEquals(expected, actual);
+        for (CustomerAnalytics.Spender spender : report.getTopSpenders()) {
+            assertEquals(customers.get(spender.getIndex()).getName(), spender.getName());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 16})
+    void testProductPopularity(int partitions) {
+        List<Customer> customers = customers(20000, 3);
+        Map<String, Long> quantities = new HashMap<>();
+        for (Customer customer : customers) {
+            for (Product product : customer.getOrders()) {
+                quantities.merge(product.getName(), (long) product.getQuantity(), Long::sum);
+            }
+        }
+        CustomerAnalytics.Report report = new CustomerAnalytics(ForkJoinPool.commonPool(), partitions).analyze(customers, 1);
+        assertEquals(quantities.size(), report.getProductPopularity().size());
+        long previous = Long.MAX_VALUE;
+        for (CustomerAnalytics.ProductStats stats : report.getProductPopularity()) {
+            assertEquals(quantities.get(stats.getName()), stats.getQuantity());
+            assertTrue(stats.getQuantity() <= previous);
+            previous = stats.getQuantity();
+        }
+        assertEquals(2, report.getMostPopularProducts(2).size());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2000, 4", "2000, 1"})
+    void testLinkedListMatchesArrayList(int count, int partitions) {
+        List<Customer> customers = customers(count, 17);
+        CustomerAnalytics analytics = new CustomerAnalytics(ForkJoinPool.commonPool(), partitions);
+        CustomerAnalytics.Report expected = analytics.analyze(customers, 5);
+        CustomerAnalytics.Report actual = analytics.analyze(new LinkedList<>(customers), 5);
+        assertArrayEquals(expected.getCustomerTotals(), actual.getCustomerTotals());
+        assertEquals(expected.getTopSpenders().stream().map(CustomerAnalytics.Spender::getIndex).collect(Collectors.toList()),
+                actual.getTopSpenders().stream().map(CustomerAnalytics.Spender::getIndex).collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 2", "3, 2", "1, 5"})
+    void testTiedSpendersKeepInputOrder(int partitions, int topN) {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            customers.add(new Customer("customer" + i, Arrays.asList(new Product("item", 10.0, 1))));
+        }
+        CustomerAnalytics.Report report = new CustomerAnalytics(ForkJoinPool.commonPool(), partitions).analyze(customers, topN);
+        for (int i = 0; i < topN; i++) {
+            assertEquals(i, report.getTopSpenders().get(i).getIndex());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"alice, 10.0, 2, 20.0", "bob, 3.5, 4, 14.0"})
+    void testSingleCustomer(String name, double price, int quantity, double expectedTotal) {
+        List<Customer> customers = Collections.singletonList(new Customer(name, Arrays.asList(new Product("item", price, quantity))));
+        CustomerAnalytics.Report report = new CustomerAnalytics().analyze(customers, 3);
+        assertEquals(expectedTotal, report.getTotal(), 1e-9);
+        assertEquals(name, report.getTopSpenders().get(0).getName());
+        assertEquals(expectedTotal, report.getProductPopularity().get(0).getRevenue(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testInvalidPartitionsRejected(int partitions) {
+        assertThrows(IllegalArgumentException.class, () -> new CustomerAnalytics(ForkJoinPool.commonPool(), partitions));
+    }
+}
@@ -0,0 +1,89 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateUtilsTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, fr, janvier", "8, de, August", "12, es, diciembre", "3, en, March"})
+    void testLocalizedMonthNames(int month, String language, String expected) {
+        Locale locale = Locale.forLanguageTag(language);
+        assertEquals(expected, DateUtils.getMonthName(month, locale));
+        assertEquals(LocalDate.of(2021, month, 1).getMonth().getDisplayName(TextStyle.FULL, locale),
+                DateUtils.getMonthNames(locale).get(month - 1));
+        assertSame(DateUtils.getMonthNames(locale), DateUtils.getMonthNames(locale));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 13, -1})
+    void testInvalidMonthNameRejected(int month) {
+        assertThrows(DateTimeException.class, () -> DateUtils.getMonthName(month));
+        assertThrows(DateTimeException.class, () -> DateUtils.getMonthName(month, Locale.FRENCH));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {40, 100})
+    void testLocaleCacheIsBounded(int locales) {
+        String[] languages = Locale.getISOLanguages();
+        for (int i = 0; i < locales; i++) {
+            Locale locale = Locale.forLanguageTag(languages[i]);
+            List<String> names = DateUtils.getMonthNames(locale);
+            assertEquals(Month.MARCH.getDisplayName(TextStyle.FULL, locale), names.get(2));
+            assertEquals(names, DateUtils.getMonthNames(locale));
+        }
+        assertTrue(DateUtils.cachedLocaleCount() <= DateUtils.MAX_CACHED_LOCALES);
+        assertThrows(UnsupportedOperationException.class, () -> DateUtils.getMonthNames(Locale.GERMAN).set(0, "x"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2, 2024, 29", "2, 2023, 28", "2, 1900, 28", "2, 2000, 29", "4, 2024, 30", "12, 2023, 31"})
+    void testDaysInMonthForYear(int month, int year, int expected) {
+        assertEquals(expected, DateUtils.getDaysInMonth(month, year));
+        assertEquals(YearMonth.of(year, month).lengthOfMonth(), DateUtils.getDaysInMonth(month, year));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 13})
+    void testDaysInMonthForYearRejectsInvalidMonth(int month) {
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.getDaysInMonth(month, 2024));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideDates")
+    void testBucketing(List<LocalDate> dates, int januaryCount, int yearMonths) {
+        long[] counts = DateUtils.countByMonth(dates);
+        assertEquals(januaryCount, counts[0]);
+        assertEquals(dates.size(), Arrays.stream(counts).sum());
+        double[] amounts = new double[dates.size()];
+        Arrays.fill(amounts, 2.5);
+        double[] sums = DateUtils.sumByMonth(dates, amounts);
+        assertEquals(januaryCount * 2.5, sums[0], 1e-9);
+        assertArrayEquals(sums, DateUtils.sumByMonth(new LinkedList<>(dates), amounts));
+        SortedMap<YearMonth, Long> byYearMonth = DateUtils.countByYearMonth(dates);
+        assertEquals(yearMonths, byYearMonth.size());
+        assertEquals(dates.size(), byYearMonth.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private static Stream<Arguments> provideDates() {
+        return Stream.of(
+                Arguments.of(Arrays.asList(LocalDate.of(2024, 1, 5), LocalDate.of(2023, 1, 31), LocalDate.of(2024, 2, 29)), 2, 3),
+                Arguments.of(Arrays.asList(LocalDate.of(2020, 6, 1), LocalDate.of(2020, 6, 30)), 0, 1),
+                Arguments.of(List.of(), 0, 0)
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleColumnTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 16, 1000})
+    void testAddGrowsColumn(int count) {
+        DoubleColumn column = new DoubleColumn(0);
+        for (int i = 0; i < count; i++) {
+            column.add(i);
+        }
+        assertEquals(count, column.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, column.get(i));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 5, 5", "1, 4, 3", "2, 2, 0"})
+    void testViewSharesBackingArray(int from, int to, int expectedSize) {
+        DoubleColumn column = DoubleColumn.of(1.0, 2.0, 3.0, 4.0, 5.0);
+        DoubleColumn view = column.view(from, to);
+        assertEquals(expectedSize, view.size());
+        assertTrue(view.isView());
+        if (expectedSize > 0) {
+            column.set(from, 42.0);
+            assertEquals(42.0, view.get(0));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideColumnsForToList")
+    void testToList(DoubleColumn column, double[] expected) {
+        assertArrayEquals(expected, column.toArray());
+        assertEquals(Arrays.stream(expected).boxed().toList(), column.toList());
+    }
+
+    private static Stream<Arguments> provideColumnsForToList() {
+        return Stream.of(
+                Arguments.of(DoubleColumn.of(10.0, 20.0, 30.0), new double[]{10.0, 20.0, 30.0}),
+                Arguments.of(DoubleColumn.of(10.0, 20.0, 30.0).view(1, 3), new double[]{20.0, 30.0}),
+                Arguments.of(new DoubleColumn(), new double[0])
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 3})
+    void testGetOutOfBounds(int index) {
+        DoubleColumn column = DoubleColumn.of(1.0, 2.0, 3.0);
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(index));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1.0, -5.5})
+    void testViewIsReadOnly(double value) {
+        DoubleColumn view = DoubleColumn.of(1.0, 2.0, 3.0).view(0, 2);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(value));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, value));
+    }
+}
@@ -0,0 +1,84 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpochDateUtilsTest {
+
+    @ParameterizedTest
+    @CsvSource({"-800000, -700000", "-1000, 1000", "10000, 200000", "2900000, 2940000"})
+    void testFieldsMatchLocalDate(long fromDay, long toDay) {
+        for (long day = fromDay; day < toDay; day++) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            assertEquals(date.getYear(), EpochDateUtils.year(day));
+            assertEquals(date.getMonthValue(), EpochDateUtils.month(day));
+            assertEquals(date.getDayOfMonth(), EpochDateUtils.dayOfMonth(day));
+            assertEquals(date.isLeapYear(), EpochDateUtils.isLeapYearOfEpochDay(day));
+            assertEquals(date.lengthOfMonth(), EpochDateUtils.daysInMonth(day));
+            assertEquals(day, EpochDateUtils.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 0", "-1, -1", "86399999, 0", "86400000, 1", "-86400000, -1", "-86400001, -2"})
+    void testEpochDayOfMillis(long millis, long expectedDay) {
+        assertEquals(expectedDay, EpochDateUtils.epochDay(millis));
+        assertEquals(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC).toLocalDate().toEpochDay(), EpochDateUtils.epochDay(millis));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1000, 100_000})
+    void testBulkBucketingMatchesLocalDate(int count) {
+        Random random = new Random(count);
+        long from = LocalDate.of(2020, 1, 1).toEpochDay() * EpochDateUtils.MILLIS_PER_DAY;
+        long to = LocalDate.of(2025, 1, 1).toEpochDay() * EpochDateUtils.MILLIS_PER_DAY;
+        long[] millis = new long[count];
+        double[] amounts = new double[count];
+        long[] expectedByMonth = new long[12];
+        long[] expectedByYearMonth = new long[5 * 12];
+        double[] expectedSums = new double[5 * 12];
+        for (int i = 0; i < count; i++) {
+            millis[i] = from + (long) (random.nextDouble() * (to - from));
+            amounts[i] = random.nextInt(100);
+            LocalDate date = Instant.ofEpochMilli(millis[i]).atZone(ZoneOffset.UTC).toLocalDate();
+            expectedByMonth[date.getMonthValue() - 1]++;
+            int bucket = (date.getYear() - 2020) * 12 + date.getMonthValue() - 1;
+            expectedByYearMonth[bucket]++;
+            expectedSums[bucket] += amounts[i];
+        }
+        assertArrayEquals(expectedByMonth, EpochDateUtils.countByMonth(millis));
+        assertArrayEquals(expectedByYearMonth, EpochDateUtils.countByYearMonth(millis, 2020, 2024));
+        assertArrayEquals(expectedSums, EpochDateUtils.sumByYearMonth(millis, amounts, 2020, 2024), 1e-9);
+        int[] indexes = new int[count];
+        EpochDateUtils.monthIndexes(millis, indexes);
+        assertEquals(count, Arrays.stream(indexes).filter(index -> index >= 2020 * 12 && index < 2025 * 12).count());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2019, 12, 31", "2025, 1, 1"})
+    void testOutOfRangeTimestampRejected(int year, int month, int day) {
+        long[] millis = {EpochDateUtils.epochDay(year, month, day) * EpochDateUtils.MILLIS_PER_DAY};
+        assertThrows(IllegalArgumentException.class, () -> EpochDateUtils.countByYearMonth(millis, 2020, 2024));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 13})
+    void testInvalidMonthRejected(int month) {
+        assertThrows(IllegalArgumentException.class, () -> EpochDateUtils.epochDay(2024, month, 1));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2024, 2, 29, true", "2023, 6, 1, false", "2000, 1, 1, true"})
+    void testLeapYearOfEpochDay(int year, int month, int day, boolean expected) {
+        assertEquals(expected, EpochDateUtils.isLeapYearOfEpochDay(EpochDateUtils.epochDay(year, month, day)));
+        assertEquals(expected, DateUtils.isLeapYear(year));
+    }
+}
@@ -0,0 +1,150 @@
+package org.ahmet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        Metrics.disable(MetricGroup.values());
+        Metrics.reset();
+    }
+
+    @ParameterizedTest
+    @EnumSource(MetricGroup.class)
+    void testOnlyEnabledGroupIsRecorded(MetricGroup group) {
+        Metrics.reset();
+        Metrics.enable(group);
+        List<Double> prices = Arrays.asList(10.0, 20.0);
+        ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(prices, 0.1, 0.2);
+        ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(DoubleColumn.from(prices), 0.1, 0.2);
+        new Account("a", 100).transferFunds(new Account("b", 0), 10);
+        new Transaction("t", 5, "credit").process(Transaction::getAmount);
+        assertEquals(group == MetricGroup.CART ? 2 : 0, Metrics.CART_TOTAL_WITH_DISCOUNT_AND_TAX.getCount());
+        assertEquals(group == MetricGroup.ACCOUNT ? 1 : 0, Metrics.ACCOUNT_TRANSFER.getCount());
+        assertEquals(group == MetricGroup.TRANSACTION ? 1 : 0, Metrics.TRANSACTION_PROCESS.getCount());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"50, 1", "200, 3"})
+    void testFailedTransfersCountedAsErrors(double amount, int attempts) {
+        Metrics.enable(MetricGroup.ACCOUNT);
+        Account source = new Account("a", 100);
+        Account target = new Account("b", 0);
+        int failures = 0;
+        for (int i = 0; i < attempts; i++) {
+            try {
+                source.transferFunds(target, amount);
+            } catch (IllegalArgumentException e) {
+                failures++;
+            }
+        }
+        assertEquals(attempts, Metrics.ACCOUNT_TRANSFER.getCount());
+        assertEquals(failures, Metrics.ACCOUNT_TRANSFER.getErrors());
+        assertEquals(100.0, source.getBalance() + target.getBalance(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3})
+    void testFailedCartTotalsCountedAsErrors(int attempts) {
+        Metrics.enable(MetricGroup.CART);
+        Money[] mixedScales = {Money.of(1.0, 2), Money.of(1.0, 3)};
+        for (int i = 0; i < attempts; i++) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(mixedScales, 2, 0.1, 0.2));
+            assertThrows(NullPointerException.class,
+                    () -> ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(Arrays.asList(1.0, null), 0.1, 0.2));
+        }
+        ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(Arrays.asList(1.0, 2.0), 0.1, 0.2);
+        assertEquals(2L * attempts + 1, Metrics.CART_TOTAL_WITH_DISCOUNT_AND_TAX.getCount());
+        assertEquals(2L * attempts, Metrics.CART_TOTAL_WITH_DISCOUNT_AND_TAX.getErrors());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1000})
+    void testAllocationIsCounted(int size) {
+        Metrics.enable(MetricGroup.TRANSACTION);
+        new Transaction("t", 5, "credit").process(t -> new long[size]);
+        if (Metrics.isAllocationTrackingSupported()) {
+            assertTrue(Metrics.TRANSACTION_PROCESS.getAllocatedBytes() >= 8L * size);
+        } else {
+            assertEquals(0, Metrics.TRANSACTION_PROCESS.getAllocatedBytes());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 50, 90, 99, 99.9, 100})
+    void testHistogramPercentilesWithinPrecision(double percentile) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] values = new Random(42).longs(100_000, 0, 10_000_000_000L).toArray();
+        for (long value : values) {
+            histogram.record(value);
+        }
+        Arrays.sort(values);
+        long exact = values[(int) Math.max(0, Math.ceil(percentile / 100 * values.length) - 1)];
+        long reported = histogram.getPercentile(percentile);
+        assertTrue(reported >= exact, reported + " < " + exact);
+        assertTrue(reported <= exact + exact / 32 + 1, reported + " too far above " + exact);
+        assertEquals(values[values.length - 1], histogram.getMax());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 63, 64, 65, 127, 128, 1_000_000, Long.MAX_VALUE})
+    void testBucketBoundsContainValue(long value) {
+        int bucket = LatencyHistogram.bucketOf(value);
+        assertTrue(value <= LatencyHistogram.upperBound(bucket));
+        assertTrue(bucket == 0 || value > LatencyHistogram.upperBound(bucket - 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5})
+    void testFileExport(int calls, @TempDir Path directory) throws Exception {
+        Metrics.enable(MetricGroup.CART);
+        for (int i = 0; i < calls; i++) {
+            ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(Arrays.asList(1.0, 2.0), 0.0, 0.0);
+        }
+        Path file = directory.resolve("metrics").resolve("snapshot.properties");
+        try (MetricsExporter exporter = new MetricsExporter(file)) {
+            exporter.export();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        assertEquals(String.valueOf(calls), properties.getProperty("ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax.count"));
+        assertEquals("0", properties.getProperty("Account.transferFunds.count"));
+        assertEquals("true", properties.getProperty("ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax.enabled"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 50})
+    void testJmxExport(int calls) throws Exception {
+        Metrics.enable(MetricGroup.TRANSACTION);
+        for (int i = 0; i < calls; i++) {
+            new Transaction("t" + i, i, "debit").process(Transaction::getId);
+        }
+        MetricsExporter.registerMBeans();
+        try {
+            Object count = ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(MetricsExporter.objectName(Metrics.TRANSACTION_PROCESS), "Count");
+            assertEquals((long) calls, count);
+        } finally {
+            MetricsExporter.unregisterMBeans();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(MetricsExporter.objectName(Metrics.TRANSACTION_PROCESS)));
+    }
+}
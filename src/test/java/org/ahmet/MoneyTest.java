@@ -0,0 +1,116 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @ParameterizedTest
+    @CsvSource({"10.25, 2, 1025, 10.25", "0.1, 2, 10, 0.10", "-3.5, 1, -35, -3.5", "7, 0, 7, 7"})
+    void testOf(double amount, int scale, long expectedUnits, String expectedText) {
+        Money money = Money.of(amount, scale);
+        assertEquals(expectedUnits, money.getUnits());
+        assertEquals(expectedText, money.toString());
+        assertEquals(new BigDecimal(expectedText), money.toBigDecimal());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"USD, 2", "JPY, 0", "BHD, 3"})
+    void testCurrencyScale(String currencyCode, int expectedScale) {
+        assertEquals(expectedScale, Money.of(1.0, Currency.getInstance(currencyCode)).getScale());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0.1, 0.2, 0.30", "10.0, 20.0, 30.00", "1000000.01, 0.02, 1000000.03"})
+    void testPlusIsExact(double a, double b, String expected) {
+        assertEquals(expected, Money.of(a, 2).plus(Money.of(b, 2)).toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000.00, 5, 1050.00", "2000.00, 10, 2200.00", "0.10, 50, 0.15"})
+    void testApplyPercentage(double amount, double percent, String expected) {
+        assertEquals(expected, Money.of(amount, 2).applyPercentage(percent).toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"12345, 4, 2, 123", "12350, 4, 2, 124", "-12350, 4, 2, -124", "123, 2, 4, 12300"})
+    void testRescale(long units, int fromScale, int toScale, long expected) {
+        assertEquals(expected, Money.rescaleUnits(units, fromScale, toScale));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 2", "2, 3"})
+    void testScaleMismatchRejected(int scale, int otherScale) {
+        assertThrows(IllegalArgumentException.class, () -> Money.zero(scale).plus(Money.zero(otherScale)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'10.00,20.00,30.00', 0.1, 0.1, 60.00, 30.00, 59.40", "'0.10,0.20,0.30', 0.0, 0.0, 0.60, 0.30, 0.60"})
+    void testCartMoneyOverloads(String prices, double discount, double tax, String expectedTotal, String expectedMax, String expectedFinal) {
+        String[] parts = prices.split(",");
+        Money[] money = new Money[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            money[i] = Money.of(new BigDecimal(parts[i]), 2);
+        }
+        assertEquals(expectedTotal, ShoppingCartUtils.calculateTotalPrice(money, 2).toString());
+        assertEquals(expectedMax, ShoppingCartUtils.findMostExpensiveItem(money, 2).toString());
+        assertEquals(expectedFinal, ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(money, 2, discount, tax).toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000, 250.50, 749.50, 250.50", "0.30, 0.10, 0.20, 0.10"})
+    void testAccountTransferWithMoney(double initialBalance, String amount, String expectedSource, String expectedTarget) {
+        Account source = new Account("12345", initialBalance);
+        Account target = new Account("67890", 0);
+        source.transferFunds(target, Money.of(new BigDecimal(amount), 2));
+        assertEquals(new BigDecimal(expectedSource), source.getBalanceMoney().toBigDecimal().stripTrailingZeros().setScale(2));
+        assertEquals(new BigDecimal(expectedTarget), target.getBalanceMoney().toBigDecimal().stripTrailingZeros().setScale(2));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"5000.10, 10, 5500.11", "60000, 5, 63000.00"})
+    void testEmployeeRaiseWithMoney(double salary, double percentage, String expected) {
+        Employee employee = new Employee("John", 30, salary);
+        employee.giveRaise(percentage, 2);
+        assertEquals(expected, employee.getSalary(2).toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000.555, 1, 0, 1001.555", "1000.555, 0.25, 2, 1000.805", "5000, 12.5, 1, 5012.5"})
+    void testEmployeePromoteWithMoneyKeepsSalaryPrecision(double salary, double increase, int scale, double expected) {
+        Employee employee = new Employee("John", 30, salary);
+        employee.promote(Money.of(increase, scale));
+        assertEquals(expected, employee.getSalary(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1e16, 4", "-1e16, 4", "1e19, 0", "NaN, 2", "Infinity, 2"})
+    void testOutOfRangeAmountRejected(double amount, int scale) {
+        assertThrows(ArithmeticException.class, () -> Money.of(amount, scale));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"9000000000000000000, 2.0", "-9000000000000000000, 1.5", "1, NaN"})
+    void testOutOfRangeMultiplyRejected(long units, double factor) {
+        assertThrows(ArithmeticException.class, () -> Money.multiplyUnits(units, factor));
+        assertThrows(ArithmeticException.class, () -> Money.percentageUnits(units, factor * 100));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-0.005, 2", "0.005, 2", "-2.5, 0", "2.5, 0", "-1.25, 1", "-0.0049, 2", "-123.456, 2"})
+    void testDoubleAndBigDecimalRoundHalvesTheSameWay(double amount, int scale) {
+        assertEquals(Money.of(BigDecimal.valueOf(amount), scale), Money.of(amount, scale));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2, 3", "4, 2"})
+    void testMostExpensiveItemRejectsScaleMismatch(int priceScale, int scale) {
+        Money[] single = {Money.of(1.0, priceScale)};
+        assertThrows(IllegalArgumentException.class, () -> ShoppingCartUtils.findMostExpensiveItem(single, scale));
+    }
+}
@@ -0,0 +1,90 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCartAggregatorTest {
+
+    private static DoubleColumn randomPrices(int size, long seed) {
+        Random random = new Random(seed);
+        DoubleColumn prices = new DoubleColumn(size);
+        for (int i = 0; i < size; i++) {
+            prices.add(Math.pow(10, random.nextInt(12) - 4) * random.nextDouble());
+        }
+        return prices;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "100000, 1", "100000, 4096", "250000, 10000", "250000, 65536", "1000000, 100000"})
+    void testParallelTotalMatchesSequentialBitForBit(int size, int threshold) {
+        DoubleColumn prices = randomPrices(size, size);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelCartAggregator aggregator = new ParallelCartAggregator(pool, threshold);
+            double sequential = ShoppingCartUtils.calculateCompensatedTotalPrice(prices);
+            assertEquals(Double.doubleToLongBits(sequential), Double.doubleToLongBits(aggregator.calculateTotalPrice(prices)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 8})
+    void testTotalIndependentOfPoolSize(int parallelism) {
+        DoubleColumn prices = randomPrices(300000, 42);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            double total = new ParallelCartAggregator(pool, 5000).calculateTotalPrice(prices);
+            assertEquals(ShoppingCartUtils.calculateCompensatedTotalPrice(prices), total);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'10.0,20.0,30.0', 60.0", "'0.1,0.2,0.3', 0.6"})
+    void testCompensatedTotal(String prices, double expected) {
+        List<Double> priceList = Arrays.stream(prices.split(",")).map(Double::valueOf).toList();
+        assertEquals(expected, new ParallelCartAggregator().calculateTotalPrice(priceList), 1e-12);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"200000, 1000, 0.5", "200000, 65536, 50.0", "10, 1, 0.0"})
+    void testParallelFilterPreservesOrder(int size, int threshold, double priceThreshold) {
+        DoubleColumn prices = randomPrices(size, 7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelCartAggregator aggregator = new ParallelCartAggregator(pool, threshold);
+            assertEquals(ShoppingCartUtils.filterItemsByPrice(prices, priceThreshold), aggregator.filterItemsByPrice(prices, priceThreshold));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"100003, 17, 99000, 1000, 0.5", "5000, 1, 4999, 7, 1e9"})
+    void testParallelFilterOverView(int size, int from, int to, int threshold, double priceThreshold) {
+        DoubleColumn prices = randomPrices(size, 13).view(from, to);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DoubleColumn filtered = new ParallelCartAggregator(pool, threshold).filterItemsByPrice(prices, priceThreshold);
+            assertEquals(ShoppingCartUtils.filterItemsByPrice(prices, priceThreshold), filtered);
+            assertFalse(filtered.isView());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testRejectsNonPositiveThreshold(int threshold) {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCartAggregator(ForkJoinPool.commonPool(), threshold));
+    }
+}
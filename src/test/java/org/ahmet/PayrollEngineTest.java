@@ -0,0 +1,94 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayrollEngineTest {
+
+    private static List<Employee> employees(int count, long seed) {
+        Random random = new Random(seed);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee("employee" + i, 20 + random.nextInt(45), 3000 + random.nextInt(7000)));
+        }
+        return employees;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"10, 5", "50000, 3.5", "0, 10"})
+    void testBulkRaiseMatchesPerObjectRaise(int count, double percentage) {
+        List<Employee> employees = employees(count, count);
+        PayrollEngine engine = PayrollEngine.from(employees);
+        engine.giveRaise(percentage);
+        for (int i = 0; i < count; i++) {
+            employees.get(i).giveRaise(percentage);
+            assertEquals(employees.get(i).getSalary(), engine.getSalary(i));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"40, 500", "30, 1000"})
+    void testPromotionRuleByAge(int minimumAge, double increase) {
+        List<Employee> employees = employees(40000, 7);
+        PayrollEngine engine = PayrollEngine.from(employees);
+        engine.promote(age -> age >= minimumAge, increase);
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (employee.getAge() >= minimumAge) {
+                employee.promote(increase);
+            }
+            assertEquals(employee.getSalary(), engine.getSalary(i));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"100000, 10", "1000, 5", "1, 20"})
+    void testSummaryByAgeBand(int count, int bandWidth) {
+        List<Employee> employees = employees(count, 11);
+        PayrollSummary summary = PayrollEngine.from(employees).summarize(bandWidth);
+        double total = 0;
+        double[] bandTotals = new double[summary.getBandCount()];
+        for (Employee employee : employees) {
+            total += employee.calculateAnnualSalary();
+            bandTotals[employee.getAge() / bandWidth] += employee.calculateAnnualSalary();
+        }
+        assertEquals(count, summary.getCount());
+        assertEquals(total, summary.getTotalAnnualSalary(), 1e-6 * total);
+        for (int band = 0; band < bandTotals.length; band++) {
+            assertEquals(bandTotals[band], summary.getBandTotal(band), 1e-6 * Math.max(1, bandTotals[band]));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"50, 30000", "90, 54000", "100, 60000", "0, 6000"})
+    void testPercentiles(double percentile, double expected) {
+        PayrollEngine engine = new PayrollEngine();
+        for (int i = 1; i <= 10; i++) {
+            engine.add("employee" + i, 30, i * 500);
+        }
+        assertEquals(expected, engine.annualSalaryPercentiles(percentile)[0], 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-1, 101})
+    void testInvalidPercentileRejected(double percentile) {
+        PayrollEngine engine = PayrollEngine.from(employees(5, 1));
+        assertThrows(IllegalArgumentException.class, () -> engine.annualSalaryPercentiles(percentile));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, Integer.MIN_VALUE})
+    void testNegativeAgeRejected(int age) {
+        PayrollEngine engine = PayrollEngine.from(employees(5, 1));
+        assertThrows(IllegalArgumentException.class, () -> engine.add("Invalid", age, 1000));
+        assertThrows(IllegalArgumentException.class, () -> engine.add(new Employee("Invalid", age, 1000)));
+        assertEquals(5, engine.size());
+        assertEquals(0.0, engine.summarize(10).getTotalForAge(age));
+    }
+}
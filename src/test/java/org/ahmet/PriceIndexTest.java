@@ -0,0 +1,89 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceIndexTest {
+
+    private static final List<Double> PRICES = Arrays.asList(30.0, 10.0, 20.0, 20.0, 50.0, 40.0);
+
+    @ParameterizedTest
+    @CsvSource({"15.0, 5", "20.0, 3", "50.0, 0", "0.0, 6"})
+    void testCountAbove(double threshold, int expected) {
+        PriceIndex index = new PriceIndex(PRICES);
+        assertEquals(expected, index.countAbove(threshold));
+        assertEquals(ShoppingCartUtils.filterItemsByPrice(PRICES, threshold).size(), index.filterItemsByPrice(threshold).size());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"20.0, 40.0, 4", "10.0, 10.0, 1", "21.0, 29.0, 0", "40.0, 20.0, 0", "0.0, 100.0, 6"})
+    void testCountInRange(double min, double max, int expected) {
+        PriceIndex index = new PriceIndex(PRICES);
+        assertEquals(expected, index.countInRange(min, max));
+        assertEquals(expected, index.itemsInRange(min, max).size());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, '50.0'", "3, '30.0,40.0,50.0'", "0, ''", "10, '10.0,20.0,20.0,30.0,40.0,50.0'"})
+    void testTopK(int k, String expected) {
+        double[] expectedValues = expected.isEmpty() ? new double[0] : Arrays.stream(expected.split(",")).mapToDouble(Double::parseDouble).toArray();
+        DoubleColumn top = new PriceIndex(PRICES).topK(k);
+        assertArrayEquals(expectedValues, top.toArray());
+        assertTrue(top.isView());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {3, 99})
+    void testFilterMatchesLinearScan(long seed) {
+        Random random = new Random(seed);
+        DoubleColumn prices = new DoubleColumn();
+        for (int i = 0; i < 10000; i++) {
+            prices.add(random.nextInt(1000) / 10.0);
+        }
+        PriceIndex index = new PriceIndex(prices);
+        for (int i = 0; i < 50; i++) {
+            double threshold = random.nextInt(1000) / 10.0;
+            double[] expected = ShoppingCartUtils.filterItemsByPrice(prices, threshold).toArray();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, index.filterItemsByPrice(threshold).toArray());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'0.0,1.0', -0.0, 1", "'-0.0,0.0,1.0', 0.0, 1", "'-0.0,0.0,1.0', -1.0, 3",
+            "'NaN,1.0,2.0', 0.0, 2", "'NaN,1.0,2.0', 1.0, 1", "'1.0,2.0', NaN, 0", "'NaN,NaN', -1.0, 0"})
+    void testSignedZeroAndNaNMatchListFilter(String prices, double threshold, int expected) {
+        List<Double> list = Arrays.stream(prices.split(",")).map(Double::valueOf).collect(Collectors.toList());
+        PriceIndex index = new PriceIndex(list);
+        double[] fromList = ShoppingCartUtils.filterItemsByPrice(list, threshold).stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        assertEquals(expected, fromList.length);
+        assertEquals(expected, index.countAbove(threshold));
+        assertArrayEquals(fromList, index.filterItemsByPrice(threshold).toArray(), 0.0);
+        assertEquals(ShoppingCartUtils.filterItemsByPrice(DoubleColumn.from(list), threshold).size(), index.countAbove(threshold));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"NaN, 10.0", "0.0, NaN", "NaN, NaN"})
+    void testNaNRangeMatchesNothing(double min, double max) {
+        PriceIndex index = new PriceIndex(Arrays.asList(0.0, 5.0, Double.NaN));
+        assertEquals(0, index.countInRange(min, max));
+        assertTrue(index.itemsInRange(min, max).isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 10.0})
+    void testEmptyIndex(double threshold) {
+        PriceIndex index = new PriceIndex(Collections.emptyList());
+        assertEquals(0, index.countAbove(threshold));
+        assertEquals(0.0, index.findMostExpensiveItem());
+        assertTrue(index.topK(3).isEmpty());
+    }
+}
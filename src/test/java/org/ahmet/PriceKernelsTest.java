@@ -0,0 +1,49 @@
+package org.ahmet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceKernelsTest {
+
+    private static DoubleColumn randomPrices(int size) {
+        Random random = new Random(size);
+        DoubleColumn prices = new DoubleColumn(size);
+        for (int i = 0; i < size; i++) {
+            prices.add(random.nextDouble() * 100);
+        }
+        return prices;
+    }
+
+    @Test
+    void testVectorizedKernelsLoadedWhenModulePresent() {
+        boolean modulePresent = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        assertEquals(modulePresent, PriceKernels.vectorized().isVectorized());
+        assertFalse(PriceKernels.scalar().isVectorized());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 7, 8, 64, 1001, 100000})
+    void testVectorizedMatchesScalar(int size) {
+        DoubleColumn prices = randomPrices(size);
+        PriceKernels scalar = PriceKernels.scalar();
+        PriceKernels vectorized = PriceKernels.vectorized();
+        assertEquals(scalar.sum(prices), vectorized.sum(prices), 1e-6);
+        assertEquals(scalar.max(prices), vectorized.max(prices));
+        assertEquals(scalar.filterAbove(prices, 50.0), vectorized.filterAbove(prices, 50.0));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 10", "3, 20", "5, 101"})
+    void testKernelsOnView(int from, int to) {
+        DoubleColumn view = randomPrices(128).view(from, to);
+        PriceKernels vectorized = PriceKernels.vectorized();
+        assertEquals(ShoppingCartUtils.calculateTotalPrice(view), vectorized.sum(view), 1e-9);
+        assertEquals(ShoppingCartUtils.findMostExpensiveItem(view), vectorized.max(view));
+        assertEquals(ShoppingCartUtils.filterItemsByPrice(view, 25.0), vectorized.filterAbove(view, 25.0));
+    }
+}
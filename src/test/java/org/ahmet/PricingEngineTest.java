@@ -0,0 +1,92 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingEngineTest {
+
+    private static Map<TaxClass, Double> taxRates(double standard, double reduced) {
+        Map<TaxClass, Double> rates = new EnumMap<>(TaxClass.class);
+        rates.put(TaxClass.STANDARD, standard);
+        rates.put(TaxClass.REDUCED, reduced);
+        rates.put(TaxClass.EXEMPT, 0.0);
+        return rates;
+    }
+
+    private static PricingTable defaultTable() {
+        return PricingTable.withDefaultDiscounts(Map.of("EU", taxRates(0.2, 0.05), "US", taxRates(0.1, 0.0)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"NONE, EU, STANDARD, 0.0, 0.2", "SEASONAL, EU, REDUCED, 0.1, 0.05", "CLEARANCE, US, STANDARD, 0.2, 0.1", "SEASONAL, US, EXEMPT, 0.1, 0.0"})
+    void testMatchesShoppingCartUtils(DiscountType discountType, String region, TaxClass taxClass, double discount, double tax) {
+        List<Double> prices = Arrays.asList(10.0, 20.0, 30.0);
+        PricingEngine engine = new PricingEngine(defaultTable());
+        assertEquals(ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(prices, discount, tax),
+                engine.calculateTotalPrice(prices, discountType, region, taxClass), 1e-9);
+    }
+
+    @ParameterizedTest
+    @EnumSource(DiscountType.class)
+    void testBatchPricing(DiscountType discountType) {
+        PricingEngine engine = new PricingEngine(defaultTable());
+        List<DoubleColumn> carts = List.of(DoubleColumn.of(10.0, 20.0), DoubleColumn.of(5.0), new DoubleColumn());
+        double[] totals = engine.calculateTotalPrices(carts, discountType, "EU", TaxClass.STANDARD);
+        double multiplier = (1 - ShoppingCartUtils.getDiscountRate(discountType)) * 1.2;
+        assertArrayEquals(new double[]{30.0 * multiplier, 5.0 * multiplier, 0.0}, totals, 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"APAC", ""})
+    void testUnknownRegionRejected(String region) {
+        PricingEngine engine = new PricingEngine(defaultTable());
+        assertThrows(IllegalArgumentException.class, () -> engine.multiplier(DiscountType.NONE, region, TaxClass.STANDARD));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaxClass.class)
+    void testMissingTaxRateRejected(TaxClass missing) {
+        Map<TaxClass, Double> rates = taxRates(0.2, 0.05);
+        rates.remove(missing);
+        assertThrows(IllegalArgumentException.class, () -> PricingTable.withDefaultDiscounts(Map.of("EU", rates)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0.25, 0.3"})
+    void testHotReloadIsSeenByConcurrentReaders(double newStandard, double newDiscount) throws InterruptedException {
+        PricingEngine engine = new PricingEngine(defaultTable());
+        double oldMultiplier = engine.multiplier(DiscountType.CLEARANCE, "EU", TaxClass.STANDARD);
+        Map<DiscountType, Double> discounts = new EnumMap<>(DiscountType.class);
+        discounts.put(DiscountType.NONE, 0.0);
+        discounts.put(DiscountType.SEASONAL, 0.1);
+        discounts.put(DiscountType.CLEARANCE, newDiscount);
+        PricingTable newTable = new PricingTable(discounts, Map.of("EU", taxRates(newStandard, 0.05)));
+        double newMultiplier = (1 - newDiscount) * (1 + newStandard);
+
+        AtomicBoolean inconsistent = new AtomicBoolean();
+        AtomicBoolean stop = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!stop.get()) {
+                double multiplier = engine.multiplier(DiscountType.CLEARANCE, "EU", TaxClass.STANDARD);
+                if (multiplier != oldMultiplier && multiplier != newMultiplier) {
+                    inconsistent.set(true);
+                }
+            }
+        });
+        reader.start();
+        engine.reload(newTable);
+        Thread.sleep(20);
+        stop.set(true);
+        reader.join();
+        assertFalse(inconsistent.get());
+        assertEquals(newMultiplier, engine.multiplier(DiscountType.CLEARANCE, "EU", TaxClass.STANDARD), 1e-12);
+    }
+}
@@ -0,0 +1,149 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    private static double[] randomPrices(int count, long seed) {
+        Random random = new Random(seed);
+        double[] prices = new double[count];
+        for (int i = 0; i < count; i++) {
+            prices[i] = Math.exp(random.nextGaussian() * 2 + 3);
+        }
+        return prices;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0.01, 0.5", "0.01, 0.99", "0.01, 0.0", "0.01, 1.0", "0.05, 0.9", "0.02, 0.25"})
+    void testQuantileWithinRelativeAccuracy(double accuracy, double quantile) {
+        double[] prices = randomPrices(100_000, 42);
+        QuantileSketch sketch = new QuantileSketch(accuracy);
+        sketch.acceptAll(DoubleColumn.wrap(prices));
+        double[] sorted = prices.clone();
+        Arrays.sort(sorted);
+        double exact = sorted[(int) (quantile * (sorted.length - 1))];
+        assertEquals(exact, sketch.getQuantile(quantile), exact * accuracy);
+        assertEquals(prices.length, sketch.getCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16})
+    void testCombinedSketchesMatchSingleSketch(int parts) {
+        double[] prices = randomPrices(50_000, 7);
+        QuantileSketch single = new QuantileSketch();
+        single.acceptAll(DoubleColumn.wrap(prices));
+        QuantileSketch merged = new QuantileSketch();
+        int chunk = prices.length / parts;
+        for (int part = 0; part < parts; part++) {
+            QuantileSketch partial = new QuantileSketch();
+            partial.acceptAll(DoubleColumn.wrap(prices).view(part * chunk, part == parts - 1 ? prices.length : (part + 1) * chunk));
+            merged.combine(partial);
+        }
+        for (double quantile : new double[]{0.0, 0.1, 0.5, 0.9, 0.99, 1.0}) {
+            assertEquals(single.getQuantile(quantile), merged.getQuantile(quantile), 1e-9);
+        }
+        assertEquals(single.getCount(), merged.getCount());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0.5, 3000", "1.0, 9000"})
+    void testSketchFromProductsAndSalaries(double quantile, double expectedSalary) {
+        List<Employee> employees = new ArrayList<>();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            employees.add(new Employee("employee" + i, 30, i < 500 ? 3000 : 9000));
+            products.add(new Product("product" + i, i < 500 ? 10.0 : 30.0, 1));
+        }
+        QuantileSketch salaries = employees.parallelStream()
+                .collect(QuantileSketch.toSketch(0.01, Employee::getSalary));
+        QuantileSketch prices = products.stream()
+                .collect(QuantileSketch.toSketch(0.01, Product::getPrice));
+        assertEquals(expectedSalary, salaries.getQuantile(quantile), expectedSalary * 0.01);
+        assertEquals(expectedSalary / 300, prices.getQuantile(quantile), expectedSalary / 300 * 0.01);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {8, 64})
+    void testBucketsStayBounded(int maxBuckets) {
+        QuantileSketch sketch = new QuantileSketch(0.01, maxBuckets);
+        sketch.acceptAll(DoubleColumn.wrap(randomPrices(10_000, 3)));
+        assertTrue(sketch.getBucketCount() <= maxBuckets);
+        assertEquals(sketch.getMax(), sketch.getQuantile(1.0), 1e-9);
+        assertEquals(10_000, sketch.getCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-1.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void testInvalidValuesRejected(double value) {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.accept(10.0);
+        assertThrows(IllegalArgumentException.class, () -> sketch.accept(value));
+        assertEquals(1, sketch.getCount());
+        assertEquals(10.0, sketch.getQuantile(0.5), 10.0 * QuantileSketch.DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {Double.NaN, -0.1, 1.1})
+    void testInvalidQuantileRejected(double quantile) {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.accept(1.0);
+        assertThrows(IllegalArgumentException.class, () -> sketch.getQuantile(quantile));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 0.5, 1.0})
+    void testZerosAndEmptySketch(double quantile) {
+        assertEquals(0.0, new QuantileSketch().getQuantile(quantile), 1e-9);
+        QuantileSketch zeros = new QuantileSketch();
+        zeros.accept(0.0);
+        zeros.accept(0.0);
+        assertEquals(0.0, zeros.getQuantile(quantile), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 10, 10, 5.5, 5", "0, 100, 4, 99.9, 3", "10, 20, 5, 10, 0"})
+    void testHistogramBuckets(double lower, double upper, int buckets, double value, int expectedBucket) {
+        Histogram histogram = new Histogram(lower, upper, buckets);
+        histogram.accept(value);
+        histogram.accept(lower - 1);
+        histogram.accept(upper);
+        assertEquals(1, histogram.getCount(expectedBucket));
+        assertEquals(1, histogram.getUnderflowCount());
+        assertEquals(1, histogram.getOverflowCount());
+        assertEquals(3, histogram.getCount());
+        assertTrue(histogram.getBucketLowerBound(expectedBucket) <= value && value < histogram.getBucketUpperBound(expectedBucket));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 10, 10", "-5, 5, 1"})
+    void testHistogramRejectsNaN(double lower, double upper, int buckets) {
+        Histogram histogram = new Histogram(lower, upper, buckets);
+        assertThrows(IllegalArgumentException.class, () -> histogram.accept(Double.NaN));
+        assertEquals(0, histogram.getCount(0));
+        assertEquals(0, histogram.getCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100_000})
+    void testParallelHistogramMatchesSequential(int count) {
+        List<Double> prices = new ArrayList<>();
+        for (double price : randomPrices(count, 5)) {
+            prices.add(price);
+        }
+        Histogram sequential = new Histogram(0, 200, 20);
+        prices.forEach(sequential::accept);
+        Histogram parallel = prices.parallelStream().collect(Histogram.toHistogram(0, 200, 20, Double::doubleValue));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(sequential.getCount(i), parallel.getCount(i));
+        }
+        assertEquals(sequential.getOverflowCount(), parallel.getOverflowCount());
+    }
+}
@@ -0,0 +1,163 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleSetTest {
+    private static final RuleSet.Field<Transaction> AMOUNT = RuleSet.field("amount", Transaction::getAmount);
+    private static final RuleSet.Field<Product> PRICE = RuleSet.field("price", Product::getPrice);
+    private static final RuleSet.Field<Product> QUANTITY = RuleSet.field("quantity", Product::getQuantity);
+
+    private static CompiledRules<Transaction> transactionRules() {
+        return new RuleSet<Transaction>()
+                .require(AMOUNT.greaterThan(0))
+                .require(AMOUNT.atMost(10_000))
+                .require("known type", t -> "credit".equals(t.getType()) || "debit".equals(t.getType()))
+                .compile();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "100.0, credit, true",
+            "0.0, credit, false",
+            "10000.0, debit, true",
+            "10000.01, debit, false",
+            "50.0, refund, false",
+            "-5.0, refund, false"
+    })
+    void testTransactionValidate(double amount, String type, boolean expected) {
+        assertEquals(expected, new Transaction("t1", amount, type).validate(transactionRules()));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"10.0, 5, true", "0.0, 5, false", "10.0, 0, false", "1000.0, 1, false"})
+    void testProductValidate(double price, int quantity, boolean expected) {
+        CompiledRules<Product> rules = new RuleSet<Product>()
+                .require(PRICE.between(0.01, 999.99))
+                .require(QUANTITY.atLeast(1))
+                .require("named", p -> p.getName() != null && !p.getName().isEmpty())
+                .compile();
+        assertEquals(expected, new Product("item", price, quantity).validate(rules));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3})
+    void testCustomerValidate(int orders) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            products.add(new Product("item" + i, 1.0, 1));
+        }
+        CompiledRules<Customer> rules = new RuleSet<Customer>()
+                .require(RuleSet.field("orders", (Customer c) -> c.getOrders().size()).atLeast(1))
+                .compile();
+        assertEquals(orders > 0, new Customer("alice", products).validate(rules));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 3, 1", "5, 5, 1", "5, 4, 1"})
+    void testThresholdsOnSameFieldAreFolded(double lower, double upper, int expectedRules) {
+        CompiledRules<Transaction> rules = new RuleSet<Transaction>()
+                .require(AMOUNT.atLeast(lower))
+                .require(AMOUNT.atMost(upper))
+                .require(AMOUNT.atLeast(lower - 1))
+                .compile();
+        assertEquals(expectedRules, rules.size());
+        assertEquals(lower <= upper, rules.test(new Transaction("t", lower, "credit")));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"5, 5", "5, 6"})
+    void testExclusiveBoundsFoldToNothing(double lower, double upper) {
+        CompiledRules<Transaction> rules = new RuleSet<Transaction>()
+                .require(AMOUNT.greaterThan(lower))
+                .require(AMOUNT.lessThan(upper))
+                .compile();
+        assertEquals(upper > lower, rules.test(new Transaction("t", (lower + upper) / 2, "credit")));
+        assertFalse(rules.test(new Transaction("t", lower, "credit")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1000, 100_000})
+    void testValidateAllMatchesChainedLambdas(int count) {
+        Random random = new Random(count);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String type = random.nextInt(10) == 0 ? "refund" : random.nextBoolean() ? "credit" : "debit";
+            transactions.add(new Transaction("t" + i, random.nextInt(12_000) - 1000, type));
+        }
+        Predicate<Transaction> chained = ((Predicate<Transaction>) t -> t.getAmount() > 0)
+                .and(t -> t.getAmount() <= 10_000)
+                .and(t -> "credit".equals(t.getType()) || "debit".equals(t.getType()));
+        CompiledRules<Transaction> rules = transactionRules();
+        BitSet valid = rules.validateAll(transactions);
+        for (int i = 0; i < count; i++) {
+            assertEquals(transactions.get(i).validate(chained), valid.get(i));
+        }
+        assertEquals(valid.cardinality(), rules.countValid(transactions));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"90, 10", "10, 90"})
+    void testRulesReorderedBySelectivityAndStatsCounted(int badAmounts, int badTypes) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < badAmounts; i++) {
+            transactions.add(new Transaction("a" + i, -1, "credit"));
+        }
+        for (int i = 0; i < badTypes; i++) {
+            transactions.add(new Transaction("b" + i, 10, "refund"));
+        }
+        CompiledRules<Transaction> rules = transactionRules();
+        rules.validateAll(transactions);
+        List<CompiledRules.RuleStats> stats = rules.getStats();
+        String expectedFirst = badAmounts > badTypes ? "amount > 0.0 && amount <= 10000.0" : "known type";
+        assertEquals(expectedFirst, stats.get(0).getName());
+        long rejected = stats.stream().mapToLong(CompiledRules.RuleStats::getRejected).sum();
+        assertEquals(badAmounts + badTypes, rejected);
+        rules.resetStats();
+        assertEquals(Arrays.asList(0L, 0L), Arrays.asList(rules.getStats().get(0).getEvaluated(), rules.getStats().get(1).getEvaluated()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testSingleTestsCountedOnlyWhenStatsEnabled(boolean statsEnabled) {
+        CompiledRules<Transaction> rules = transactionRules();
+        rules.setStatsEnabled(statsEnabled);
+        assertTrue(rules.test(new Transaction("t1", 10, "credit")));
+        assertFalse(rules.test(new Transaction("t2", -1, "credit")));
+        long evaluated = rules.getStats().stream().mapToLong(CompiledRules.RuleStats::getEvaluated).sum();
+        long rejected = rules.getStats().stream().mapToLong(CompiledRules.RuleStats::getRejected).sum();
+        assertEquals(statsEnabled ? 3 : 0, evaluated);
+        assertEquals(statsEnabled ? 1 : 0, rejected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 16, 100})
+    void testEachRuleRunsOncePerValidatedValue(int count) {
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        CompiledRules<Transaction> rules = new RuleSet<Transaction>()
+                .require("first", t -> first.incrementAndGet() > 0)
+                .require("second", t -> second.incrementAndGet() > 0)
+                .compile();
+        List<Transaction> transactions = new LinkedList<>();
+        for (int i = 0; i < count; i++) {
+            transactions.add(new Transaction("t" + i, i, "credit"));
+        }
+        assertEquals(count, rules.countValid(transactions));
+        assertEquals(count, first.get());
+        assertEquals(count, second.get());
+        assertEquals(Arrays.asList((long) count, (long) count),
+                Arrays.asList(rules.getStats().get(0).getEvaluated(), rules.getStats().get(1).getEvaluated()));
+    }
+}
@@ -385,4 +385,37 @@ class ShoppingCartUtilsTest {
         List<Double> priceList = Arrays.stream(prices.split(",")).map(Double::valueOf).collect(Collectors.toList());
         assertEquals(expected, ShoppingCartUtils.calculateTotalPrice(priceList), 1e-9);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the DoubleColumn overloads of the aggregate methods against the List-based versions.
+     *
+     * @param prices   the list of prices as a comma-separated string
+     * @param discount the discount rate
+     * @param tax      the tax rate
+     */
+    @ParameterizedTest
+    @CsvSource({"'10.0,20.0,30.0', 0.1, 0.1", "'5.5,1.25,99.0,42.0', 0.2, 0.05", "'', 0.1, 0.1"})
+    void columnOverloadsMatchListVersions(String prices, double discount, double tax) {
+        List<Double> priceList = (prices == null || prices.isEmpty()) ? Collections.emptyList() : Arrays.stream(prices.split(",")).map(Double::valueOf).collect(Collectors.toList());
+        DoubleColumn column = DoubleColumn.from(priceList);
+        assertEquals(ShoppingCartUtils.calculateTotalPrice(priceList), ShoppingCartUtils.calculateTotalPrice(column), 1e-9);
+        assertEquals(ShoppingCartUtils.calculateAveragePrice(priceList), ShoppingCartUtils.calculateAveragePrice(column), 1e-9);
+        assertEquals(ShoppingCartUtils.findMostExpensiveItem(priceList), ShoppingCartUtils.findMostExpensiveItem(column), 1e-9);
+        assertEquals(ShoppingCartUtils.countItems(priceList), ShoppingCartUtils.countItems(column));
+        assertEquals(ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(priceList, discount, tax), ShoppingCartUtils.calculateTotalPriceWithDiscountAndTax(column, discount, tax), 1e-9);
+    }
+
+    /**
+     * Tests filterItemsByPrice on a DoubleColumn view.
+     *
+     * @param threshold the price threshold
+     * @param expected  the expected filtered prices as a comma-separated string
+     */
+    @ParameterizedTest
+    @CsvSource({"15.0, '20.0,30.0'", "25.0, '30.0'", "35.0, ''"})
+    void filterItemsByPriceOnColumnView(double threshold, String expected) {
+        DoubleColumn view = DoubleColumn.of(99.0, 10.0, 20.0, 30.0, 99.0).view(1, 4);
+        double[] expectedValues = expected.isEmpty() ? new double[0] : Arrays.stream(expected.split(",")).mapToDouble(Double::parseDouble).toArray();
+        assertEquals(DoubleColumn.of(expectedValues), ShoppingCartUtils.filterItemsByPrice(view, threshold));
+    }
+}
@@ -0,0 +1,163 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringUtilsTest {
+
+    private static boolean reversePalindrome(String str) {
+        return str.contentEquals(new StringBuilder(str).reverse());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "madam, true",
+            "racecar, true",
+            "ab, false",
+            "a, true",
+            "'', true",
+            "abca, false",
+            "😀, true",
+            "a😀a, true",
+            "😀x😀, true",
+            "😀😁, false",
+            "\uDE00\uD83D, false",
+            "hé中h, false",
+            "é中é, true"
+    })
+    void testPalindromeVariantsAgree(String str, boolean expected) {
+        assertEquals(expected, StringUtils.isPalindrome(str));
+        assertEquals(expected, StringUtils.isPalindrome(new StringBuilder(str)));
+        char[] padded = ("<" + str + ">").toCharArray();
+        assertEquals(expected, StringUtils.isPalindrome(padded, 1, padded.length - 1));
+        if (!str.startsWith("\uDE00")) {
+            byte[] bytes = ("<" + str + ">").getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 2);
+            assertEquals(expected, StringUtils.isPalindrome(buffer));
+            assertEquals(1, buffer.position());
+        }
+        assertEquals(reversePalindrome(str), StringUtils.isPalindrome(str));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5})
+    void testMatchesReverseOnRandomSurrogateStrings(long seed) {
+        Random random = new Random(seed);
+        char[] alphabet = {'a', 'b', '\uD83D', '\uDE00', '\uDE01'};
+        for (int n = 0; n < 20_000; n++) {
+            char[] half = new char[random.nextInt(4)];
+            for (int i = 0; i < half.length; i++) {
+                half[i] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String left = new String(half);
+            String candidate = random.nextBoolean() ? left + new StringBuilder(left).reverse() : left + alphabet[random.nextInt(alphabet.length)] + left;
+            assertEquals(reversePalindrome(candidate), StringUtils.isPalindrome(candidate), candidate);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"éé", "a中中", "😀😀"})
+    void testMalformedUtf8Rejected(String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(IllegalArgumentException.class, () -> StringUtils.isPalindrome(ByteBuffer.wrap(truncated)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'abba,abc,x,noon,xy', '0,2,3'", "'', ''", "'ab,cd', ''"})
+    void testBulkPalindromes(String inputs, String expectedIndexes) {
+        List<String> values = inputs.isEmpty() ? new ArrayList<>() : Arrays.asList(inputs.split(","));
+        BitSet expected = new BitSet();
+        if (!expectedIndexes.isEmpty()) {
+            for (String index : expectedIndexes.split(",")) {
+                expected.set(Integer.parseInt(index));
+            }
+        }
+        assertEquals(expected, StringUtils.arePalindromes(values));
+        assertEquals(expected.cardinality(), StringUtils.countPalindromes(values));
+        assertEquals(expected, StringUtils.arePalindromes(new LinkedList<>(values)));
+        assertEquals(expected.cardinality(), StringUtils.countPalindromes(new LinkedList<>(values)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 2", "0, 6", "3, 2"})
+    void testInvalidSliceRejected(int from, int to) {
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.isPalindrome("abcde".toCharArray(), from, to));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 5, 6, 7, 10, 12, 64, 96, 1_000_003, 2_147_483_647L, 2_147_483_648L, 6_442_450_944L, Long.MAX_VALUE})
+    void testDivisorMatchesRemainder(long divisor) {
+        Divisor test = Divisor.of(divisor);
+        Random random = new Random(divisor);
+        int[] ints = {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 3, -3, 96, -96};
+        long[] longs = {0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE, divisor, -divisor, divisor * 3};
+        for (int value : ints) {
+            assertEquals(value % divisor == 0, test.divides(value), "int " + value);
+        }
+        for (long value : longs) {
+            assertEquals(value % divisor == 0, test.divides(value), "long " + value);
+        }
+        for (int n = 0; n < 100_000; n++) {
+            int value = random.nextInt();
+            long wide = random.nextLong();
+            long multiple = divisor * (random.nextInt(2001) - 1000);
+            assertEquals(value % divisor == 0, test.divides(value));
+            assertEquals(wide % divisor == 0, test.divides(wide));
+            assertEquals(multiple % divisor == 0, test.divides(multiple));
+            if (divisor <= Integer.MAX_VALUE) {
+                int smallMultiple = (int) (divisor * random.nextInt((int) Math.min(Integer.MAX_VALUE, Integer.MAX_VALUE / divisor + 1)));
+                assertTrue(test.divides(smallMultiple));
+                assertTrue(test.divides(-smallMultiple));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"3, 1000", "7, 64", "10, 65", "1, 130", "64, 5000"})
+    void testBulkDivisibility(int divisor, int length) {
+        Random random = new Random(length);
+        int[] ints = random.ints(length, -1000, 1000).toArray();
+        long[] longs = random.longs(length).toArray();
+        BitSet intBits = StringUtils.divisibleBy(ints, divisor);
+        BitSet longBits = StringUtils.divisibleBy(longs, divisor);
+        int expectedCount = 0;
+        for (int i = 0; i < length; i++) {
+            assertEquals(ints[i] % divisor == 0, intBits.get(i));
+            assertEquals(longs[i] % divisor == 0, longBits.get(i));
+            if (ints[i] % divisor == 0) {
+                expectedCount++;
+            }
+        }
+        assertEquals(expectedCount, StringUtils.countDivisibleBy(ints, divisor));
+        assertEquals(StringUtils.divisibleBy(ints, 3), StringUtils.divisibleByThree(ints));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 100, 3", "-50, 50, 7", "1000000000000, 1000000000200, 13", "5, 5, 2", "-7, 9, 1", "-5, 10, 9223372036854775807", "0, 10, 9223372036854775807", "1, 10, 9223372036854775806"})
+    void testRangeDivisibility(long from, long to, long divisor) {
+        BitSet bits = StringUtils.divisibleBy(from, to, divisor);
+        for (long value = from; value < to; value++) {
+            assertEquals(value % divisor == 0, bits.get((int) (value - from)), "value " + value);
+        }
+        assertTrue(bits.length() <= to - from);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -3})
+    void testInvalidDivisorRejected(int divisor) {
+        assertThrows(IllegalArgumentException.class, () -> StringUtils.divisibleBy(new int[]{1, 2, 3}, divisor));
+        assertThrows(IllegalArgumentException.class, () -> StringUtils.divisibleBy(0, 10, divisor));
+    }
+}
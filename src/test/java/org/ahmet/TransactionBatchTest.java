@@ -0,0 +1,89 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.BitSet;
+import java.util.function.DoublePredicate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionBatchTest {
+
+    private static TransactionBatch sampleBatch() {
+        TransactionBatch batch = new TransactionBatch(2);
+        batch.add(new Transaction("1", 100.0, "credit"));
+        batch.add(new Transaction("2", -50.0, "debit"));
+        batch.add(new Transaction("3", 200.0, "debit"));
+        batch.add(new Transaction("1", 25.0, "credit"));
+        return batch;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 1, 100.0, credit", "1, 2, -50.0, debit", "3, 1, 25.0, credit"})
+    void testRowRoundTrip(int row, String expectedId, double expectedAmount, String expectedType) {
+        Transaction transaction = sampleBatch().toTransaction(row);
+        assertEquals(expectedId, transaction.getId());
+        assertEquals(expectedAmount, transaction.getAmount(), 1e-9);
+        assertEquals(expectedType, transaction.getType());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 1", "1, 2", "2, 3", "3, 1"})
+    void testIdColumnKeepsEveryRow(int row, String expectedId) {
+        TransactionBatch batch = sampleBatch();
+        assertEquals(4, batch.size());
+        assertEquals(expectedId, batch.getId(row));
+        batch.clear();
+        assertEquals(0, batch.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getId(row));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideValidationRules")
+    void testValidateMatchesPerObjectValidate(DoublePredicate rule) {
+        TransactionBatch batch = sampleBatch();
+        BitSet valid = batch.validate(rule);
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(batch.toTransaction(i).validate(t -> rule.test(t.getAmount())), valid.get(i));
+        }
+        assertEquals(valid.cardinality(), batch.countValid(rule));
+    }
+
+    private static Stream<Arguments> provideValidationRules() {
+        return Stream.of(
+                Arguments.of((DoublePredicate) amount -> amount > 0),
+                Arguments.of((DoublePredicate) amount -> amount > 50)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1.1, 302.5", "2.0, 550.0"})
+    void testProcess(double factor, double expectedTotal) {
+        TransactionBatch batch = sampleBatch();
+        double[] processed = batch.process(amount -> amount * factor);
+        double total = 0;
+        for (double amount : processed) {
+            total += amount;
+        }
+        assertEquals(expectedTotal, total, 1e-9);
+        assertEquals(275.0, batch.getTotalAmount(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 125.0, 2", "1, 150.0, 2"})
+    void testAggregateByType(byte type, double expectedTotal, int expectedCount) {
+        TransactionBatch batch = sampleBatch();
+        assertEquals(expectedTotal, batch.getTotalAmount(type), 1e-9);
+        assertEquals(expectedCount, batch.count(type));
+        assertEquals(-25.0, batch.getNetAmount(), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"refund", "CREDIT", ""})
+    void testUnknownTypeRejected(String type) {
+        TransactionBatch batch = new TransactionBatch();
+        assertThrows(IllegalArgumentException.class, () -> batch.add("1", 10.0, type));
+    }
+}
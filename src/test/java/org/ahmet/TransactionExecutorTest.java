@@ -0,0 +1,91 @@
+package org.ahmet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionExecutorTest {
+
+    private static List<Transaction> transactions(int count) {
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(new Transaction(String.valueOf(i), 100.0, "credit"));
+        }
+        return transactions;
+    }
+
+    private static Stream<Arguments> provideExecutors() {
+        return Stream.of(
+                Arguments.of((IntFunction<TransactionExecutor>) TransactionExecutor::virtualThreads, 4, 200),
+                Arguments.of((IntFunction<TransactionExecutor>) TransactionExecutor::virtualThreads, 64, 500),
+                Arguments.of((IntFunction<TransactionExecutor>) TransactionExecutor::fixedPool, 4, 200)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideExecutors")
+    void testExecuteAllRespectsConcurrencyLimit(IntFunction<TransactionExecutor> factory, int maxConcurrency, int count) throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Consumer<Transaction> blockingSink = t -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            t.amount += 10;
+            inFlight.decrementAndGet();
+        };
+        List<Transaction> transactions = transactions(count);
+        try (TransactionExecutor executor = factory.apply(maxConcurrency)) {
+            TransactionExecutor.ExecutionResult result = executor.executeAll(transactions, blockingSink);
+            assertEquals(count, result.getSucceeded());
+            assertTrue(result.getFailures().isEmpty());
+        }
+        assertEquals(0, inFlight.get());
+        assertTrue(peak.get() <= maxConcurrency);
+        for (Transaction transaction : transactions) {
+            assertEquals(110.0, transaction.getAmount(), 1e-9);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8})
+    void testFailuresAreCollected(int maxConcurrency) throws InterruptedException {
+        Consumer<Transaction> failingSink = t -> {
+            if (Integer.parseInt(t.getId()) % 10 == 0) {
+                throw new IllegalStateException("sink unavailable");
+            }
+        };
+        try (TransactionExecutor executor = TransactionExecutor.virtualThreads(maxConcurrency)) {
+            TransactionExecutor.ExecutionResult result = executor.executeAll(transactions(100), failingSink);
+            assertEquals(90, result.getSucceeded());
+            assertEquals(10, result.getFailures().size());
+        }
+    }
+
+    @Test
+    void testVirtualModeMatchesRuntimeSupport() throws InterruptedException {
+        try (TransactionExecutor executor = TransactionExecutor.virtualThreads(4)) {
+            assertEquals(TransactionExecutor.isVirtualThreadSupported(), executor.isVirtual());
+            assertEquals(Runtime.version().feature() >= 21, executor.isVirtual());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testRejectsNonPositiveConcurrency(int maxConcurrency) {
+        assertThrows(IllegalArgumentException.class, () -> TransactionExecutor.virtualThreads(maxConcurrency));
+        assertThrows(IllegalArgumentException.class, () -> TransactionExecutor.fixedPool(maxConcurrency));
+    }
+}
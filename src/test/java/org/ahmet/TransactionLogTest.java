@@ -0,0 +1,159 @@
+package org.ahmet;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionLogTest {
+
+    @TempDir
+    Path directory;
+
+    private static Transaction transaction(int i) {
+        return new Transaction("tx-" + i, i * 1.5, i % 2 == 0 ? "credit" : "debit");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"10, 4", "10, 10", "100, 7", "1, 1"})
+    void testAppendAndReplayAcrossSegments(int count, int recordsPerSegment) throws IOException {
+        try (TransactionLog log = new TransactionLog(directory, recordsPerSegment)) {
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, log.append(transaction(i)));
+            }
+            assertEquals(count, log.size());
+        }
+        List<Transaction> replayed = new ArrayList<>();
+        assertEquals(count, TransactionLog.replay(directory, replayed::add));
+        for (int i = 0; i < count; i++) {
+            assertEquals("tx-" + i, replayed.get(i).getId());
+            assertEquals(i * 1.5, replayed.get(i).getAmount());
+            assertEquals(transaction(i).getType(), replayed.get(i).getType());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"5, 3, 8", "3, 4, 10"})
+    void testReopenContinuesAfterLastRecord(int first, int second, int recordsPerSegment) throws IOException {
+        try (TransactionLog log = new TransactionLog(directory, recordsPerSegment)) {
+            for (int i = 0; i < first; i++) {
+                log.append(transaction(i));
+            }
+        }
+        try (TransactionLog log = new TransactionLog(directory, recordsPerSegment)) {
+            assertEquals(first, log.size());
+            for (int i = first; i < first + second; i++) {
+                log.append(transaction(i));
+            }
+        }
+        TransactionBatch batch = new TransactionBatch();
+        assertEquals(first + second, TransactionLog.replay(directory, batch));
+        assertEquals("tx-" + (first + second - 1), batch.getId(first + second - 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {8, 20})
+    void testTornRecordIsDiscardedOnRecovery(int offsetInRecord) throws IOException {
+        try (TransactionLog log = new TransactionLog(directory, 16)) {
+            for (int i = 0; i < 5; i++) {
+                log.append(transaction(i));
+            }
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("transactions-000000.log").toFile(), "rw")) {
+            file.seek(4L * TransactionLog.RECORD_SIZE + offsetInRecord);
+            file.writeByte(0x7f);
+        }
+        assertEquals(4, TransactionLog.replay(directory, t -> { }));
+        try (TransactionLog log = new TransactionLog(directory, 16)) {
+            assertEquals(4, log.size());
+            assertEquals(4, log.append(transaction(99)));
+        }
+        List<Transaction> replayed = new ArrayList<>();
+        TransactionLog.replay(directory, replayed::add);
+        assertEquals("tx-99", replayed.get(4).getId());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2, 8", "0, 20", "3, 40"})
+    void testRecordsAfterTornMiddleRecordStayDiscarded(int tornRecord, int offsetInRecord) throws IOException {
+        try (TransactionLog log = new TransactionLog(directory, 16)) {
+            for (int i = 0; i < 5; i++) {
+                log.append(transaction(i));
+            }
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("transactions-000000.log").toFile(), "rw")) {
+            file.seek((long) tornRecord * TransactionLog.RECORD_SIZE + offsetInRecord);
+            file.writeByte(0x7f);
+        }
+        try (TransactionLog log = new TransactionLog(directory, 16)) {
+            assertEquals(tornRecord, log.size());
+            log.append(transaction(99));
+            assertEquals(tornRecord + 1, log.size());
+        }
+        List<Transaction> replayed = new ArrayList<>();
+        assertEquals(tornRecord + 1, TransactionLog.replay(directory, replayed::add));
+        for (int i = 0; i < tornRecord; i++) {
+            assertEquals("tx-" + i, replayed.get(i).getId());
+        }
+        assertEquals("tx-99", replayed.get(tornRecord).getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MAX_VALUE / TransactionLog.RECORD_SIZE + 1, Integer.MAX_VALUE})
+    void testRejectsSegmentsTooLargeToAddress(int recordsPerSegment) {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionLog(directory, recordsPerSegment));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {49, 100})
+    void testRejectsOversizedId(int length) throws IOException {
+        try (TransactionLog log = new TransactionLog(directory, 4)) {
+            assertThrows(IllegalArgumentException.class, () -> log.append(new Transaction("x".repeat(length), 1.0, "credit")));
+            assertEquals(0, log.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(bytes = {2, -1, 127})
+    void testRejectsUnknownTypeCode(byte type) throws IOException {
+        try (TransactionLog log = new TransactionLog(directory, 4)) {
+            assertThrows(IllegalArgumentException.class, () -> log.append("tx-1", 1.0, type));
+            assertEquals(0, log.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tx-ascii", "tx-\u00e9t\u00e9", "\u4e2d\u6587-\ud83d\ude00", ""})
+    void testAsciiAndUnicodeIdsRoundTrip(String id) throws IOException {
+        try (TransactionLog log = new TransactionLog(directory, 2)) {
+            log.append(id, 2.5, TransactionBatch.DEBIT);
+            log.append(id + "!", 3.5, TransactionBatch.CREDIT);
+        }
+        TransactionBatch batch = new TransactionBatch();
+        assertEquals(2, TransactionLog.replay(directory, batch));
+        assertEquals(id, batch.getId(0));
+        assertEquals(id + "!", batch.getId(1));
+        assertEquals("debit", batch.getType(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 17})
+    void testRejectsMultiByteIdOverLimit(int characters) throws IOException {
+        String id = "\u4e2d".repeat(characters);
+        try (TransactionLog log = new TransactionLog(directory, 4)) {
+            if (characters * 3 > TransactionLog.MAX_ID_BYTES) {
+                assertThrows(IllegalArgumentException.class, () -> log.append(id, 1.0, TransactionBatch.CREDIT));
+                assertEquals(0, log.size());
+            } else {
+                assertEquals(0, log.append(id, 1.0, TransactionBatch.CREDIT));
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package org.ahmet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionPipelineTest {
+
+    private static List<Transaction> batch(int start, int size) {
+        List<Transaction> batch = new ArrayList<>(size);
+        for (int i = start; i < start + size; i++) {
+            batch.add(new Transaction(String.valueOf(i), i % 2 == 0 ? 100.0 : -50.0, i % 2 == 0 ? "credit" : "debit"));
+        }
+        return batch;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 10, 1", "100, 50, 4", "1000, 10, 16"})
+    void testAllValidTransactionsAreProcessedAndExecuted(int batches, int batchSize, int queueCapacity) throws InterruptedException {
+        AtomicLong executed = new AtomicLong();
+        AtomicLong executedAmount = new AtomicLong();
+        Predicate<Transaction> validator = t -> t.getAmount() > 0;
+        Function<Transaction, Transaction> processor = t -> new Transaction(t.getId(), t.getAmount() * 1.1, t.getType());
+        Consumer<Transaction> executor = t -> {
+            executed.incrementAndGet();
+            executedAmount.addAndGet(Math.round(t.getAmount()));
+        };
+        TransactionPipeline pipeline = new TransactionPipeline(validator, processor, executor, queueCapacity);
+        for (int b = 0; b < batches; b++) {
+            pipeline.submit(batch(b * batchSize, batchSize));
+        }
+        pipeline.close();
+
+        long total = (long) batches * batchSize;
+        assertEquals(total / 2, executed.get());
+        assertEquals(total / 2 * 110, executedAmount.get());
+        assertEquals(total, pipeline.getValidationStats().getTransactionsIn());
+        assertEquals(total / 2, pipeline.getValidationStats().getTransactionsOut());
+        assertEquals(total / 2, pipeline.getExecutionStats().getTransactionsOut());
+        assertTrue(pipeline.getExecutionStats().getThroughputPerSecond() > 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void testFullQueueAppliesBackPressure(int queueCapacity) throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Consumer<Transaction> blockingExecutor = t -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        TransactionPipeline pipeline = new TransactionPipeline(t -> true, t -> t, blockingExecutor, queueCapacity);
+        boolean accepted = true;
+        for (int i = 0; i < 10 * queueCapacity + 10 && accepted; i++) {
+            accepted = pipeline.offer(batch(i, 1), 50, TimeUnit.MILLISECONDS);
+        }
+        assertFalse(accepted);
+        release.countDown();
+        pipeline.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 5})
+    void testFailingBatchIsCountedAndPipelineContinues(int batches) throws InterruptedException {
+        AtomicLong executed = new AtomicLong();
+        Function<Transaction, Transaction> processor = t -> {
+            if (t.getId().equals("0")) {
+                throw new IllegalStateException("boom");
+            }
+            return t;
+        };
+        TransactionPipeline pipeline = new TransactionPipeline(t -> true, processor, t -> executed.incrementAndGet(), 4);
+        for (int b = 0; b < batches; b++) {
+            pipeline.submit(batch(b * 2, 2));
+        }
+        pipeline.close();
+        assertEquals(1, pipeline.getProcessingStats().getFailedBatches());
+        assertEquals((batches - 1) * 2L, executed.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testRejectsNonPositiveCapacity(int queueCapacity) {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionPipeline(t -> true, t -> t, t -> { }, queueCapacity));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 64})
+    void testSubmitAfterCloseFails(int queueCapacity) throws InterruptedException {
+        TransactionPipeline pipeline = new TransactionPipeline(t -> true, t -> t, t -> { }, queueCapacity);
+        for (int b = 0; b < queueCapacity; b++) {
+            pipeline.submit(batch(b, 1));
+        }
+        pipeline.close();
+        assertThrows(IllegalStateException.class, () -> pipeline.submit(batch(0, 1)));
+        assertThrows(IllegalStateException.class, () -> pipeline.offer(batch(0, 1), 1, TimeUnit.MILLISECONDS));
+        assertEquals(queueCapacity, pipeline.getExecutionStats().getTransactionsOut());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testErrorInStageDoesNotHangClose(int queueCapacity) throws InterruptedException {
+        Consumer<Transaction> executor = t -> {
+            throw new AssertionError("fatal");
+        };
+        TransactionPipeline pipeline = new TransactionPipeline(t -> true, t -> t, executor, queueCapacity);
+        pipeline.submit(batch(0, 1));
+        for (int b = 1; b < 10 && pipeline.getFailure() == null; b++) {
+            try {
+                pipeline.submit(batch(b, 1));
+            } catch (IllegalStateException e) {
+                break;
+            }
+        }
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, pipeline::close);
+        assertInstanceOf(AssertionError.class, thrown.getCause());
+        assertInstanceOf(AssertionError.class, pipeline.getFailure());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8})
+    void testAcceptedBatchesAreExecutedWhenClosedConcurrently(int submitters) throws Exception {
+        for (int round = 0; round < 50; round++) {
+            AtomicLong executed = new AtomicLong();
+            AtomicLong accepted = new AtomicLong();
+            TransactionPipeline pipeline = new TransactionPipeline(t -> true, t -> t, t -> executed.incrementAndGet(), 2);
+            ExecutorService pool = Executors.newFixedThreadPool(submitters);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int s = 0; s < submitters; s++) {
+                futures.add(pool.submit(() -> {
+                    for (int b = 0; b < 100; b++) {
+                        try {
+                            pipeline.submit(batch(b, 1));
+                            accepted.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            return null;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            pipeline.close();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pool.shutdown();
+            assertEquals(accepted.get(), executed.get());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testInterruptedStageDoesNotHangClose(boolean interruptWhileBusy) throws InterruptedException {
+        AtomicReference<Thread> stageThread = new AtomicReference<>();
+        CountDownLatch captured = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Transaction, Transaction> processor = t -> {
+            stageThread.set(Thread.currentThread());
+            captured.countDown();
+            if (interruptWhileBusy) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return t;
+        };
+        AtomicLong executed = new AtomicLong();
+        TransactionPipeline pipeline = new TransactionPipeline(t -> true, processor, t -> executed.incrementAndGet(), 2);
+        pipeline.submit(batch(0, 1));
+        captured.await();
+        if (!interruptWhileBusy) {
+            while (executed.get() == 0) {
+                Thread.onSpinWait();
+            }
+        }
+        stageThread.get().interrupt();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try {
+                for (int b = 1; b < 5; b++) {
+                    pipeline.submit(batch(b, 1));
+                }
+            } catch (IllegalStateException e) {
+                // the failure may already be visible to submit
+            }
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, pipeline::close);
+            assertInstanceOf(InterruptedException.class, thrown.getCause());
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testEmptyListsAreNotTreatedAsEndOfStream(int batches) throws InterruptedException {
+        AtomicLong executed = new AtomicLong();
+        TransactionPipeline pipeline = new TransactionPipeline(t -> true, t -> t, t -> executed.incrementAndGet(), 2);
+        for (int b = 0; b < batches; b++) {
+            pipeline.submit(Collections.emptyList());
+            pipeline.submit(batch(b, 2));
+        }
+        pipeline.close();
+        assertEquals(batches * 2L, executed.get());
+    }
+}